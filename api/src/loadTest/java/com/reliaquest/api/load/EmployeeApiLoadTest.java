@@ -0,0 +1,124 @@
+package com.reliaquest.api.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop load generator for the api module. For each concurrency level it keeps that many requests in flight
+ * until the requested total has completed, then prints throughput and latency percentiles.
+ *
+ * <p>Usage: {@code EmployeeApiLoadTest <url> <concurrency[,concurrency...]> <requests>}
+ *
+ * <p>A url ending in {@code /{id}} is completed with the id of the first employee listed at the url before it. The
+ * default, {@code /api/v1/employees/{id}}, reads one employee from the upstream on every request, so it measures how
+ * the api holds up while it waits on the upstream rather than how fast it serves its cache.
+ */
+public class EmployeeApiLoadTest {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(2);
+    private static final String ID_PLACEHOLDER = "/{id}";
+    private static final Pattern FIRST_ID = Pattern.compile("\"id\"\\s*:\\s*\"([^\"]+)\"");
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String url = args.length > 0 ? args[0] : "http://localhost:8111/api/v1/employees" + ID_PLACEHOLDER;
+        int[] concurrencyLevels = Arrays.stream((args.length > 1 ? args[1] : "50,200,800,2000").split(","))
+                .mapToInt(level -> Integer.parseInt(level.trim()))
+                .toArray();
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 4000;
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        URI uri = resolve(client, url);
+
+        System.out.printf("target %s, %d requests per level%n", uri, requests);
+        System.out.printf(
+                "%11s %8s %8s %10s %9s %9s %9s %9s%n",
+                "concurrency", "ok", "failed", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (int concurrency : concurrencyLevels) {
+            Result result = run(client, uri, concurrency, requests);
+            System.out.printf(
+                    "%11d %8d %8d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    concurrency,
+                    result.ok(),
+                    result.failed(),
+                    result.throughput(),
+                    result.percentileMillis(0.50),
+                    result.percentileMillis(0.90),
+                    result.percentileMillis(0.99),
+                    result.percentileMillis(1.0));
+        }
+    }
+
+    private static URI resolve(HttpClient client, String url) throws IOException, InterruptedException {
+        if (!url.endsWith(ID_PLACEHOLDER)) {
+            return URI.create(url);
+        }
+        String list = url.substring(0, url.length() - ID_PLACEHOLDER.length());
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(list))
+                        .timeout(REQUEST_TIMEOUT)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher id = FIRST_ID.matcher(response.body());
+        if (response.statusCode() / 100 != 2 || !id.find()) {
+            throw new IllegalStateException("No employee id to target at " + list + ", got " + response.statusCode());
+        }
+        return URI.create(list + "/" + id.group(1));
+    }
+
+    private static Result run(HttpClient client, URI uri, int concurrency, int requests) throws InterruptedException {
+        HttpRequest request =
+                HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT).GET().build();
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(requests);
+        long[] latencies = new long[requests];
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int slot = i;
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                latencies[slot] = System.nanoTime() - sent;
+                if (error == null && response.statusCode() / 100 == 2) {
+                    ok.incrementAndGet();
+                } else {
+                    failed.incrementAndGet();
+                }
+                inFlight.release();
+                done.countDown();
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        return new Result(ok.get(), failed.get(), elapsed, latencies);
+    }
+
+    private record Result(int ok, int failed, long elapsedNanos, long[] sortedLatencies) {
+
+        double throughput() {
+            return (ok + failed) / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,447 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.client.AsyncEmployeeApiClient;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.Futures;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.client.VersionedRoster;
+import com.reliaquest.api.exception.ServiceUnavailableException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+/**
+ * In-process cache of the upstream roster.
+ *
+ * <ul>
+ *   <li>younger than {@code ttl - refreshAhead}: served as is;
+ *   <li>older than that: served as is while a single background refresh runs;
+ *   <li>older than {@code ttl + maxStale}: reloaded synchronously, falling back to the stale snapshot if the upstream
+ *       is throttling or unavailable.
+ * </ul>
+ *
+ * Answers served from a snapshot older than {@code ttl} are recorded in {@link Staleness} for the response headers.
+ * Lookups are counted in {@code roster.cache.requests}, tagged {@code hit}, {@code stale} (served past the ttl) or
+ * {@code miss} (loaded synchronously).
+ *
+ * <p>Once a snapshot carries an upstream roster version, reloads ask only for the changes made after it and apply them
+ * to the snapshot and, one by one, to the listeners, so staying current costs O(changes) upstream and in the indexes.
+ * When the upstream no longer has those changes the roster is read in full, conditional on the version: a 304 keeps
+ * the snapshot, with its age reset, and the listeners are not called.
+ *
+ * <p>Blocking reads reload through the {@link EmployeeApiClient}. Background refreshes and the async reads reload
+ * through the {@link AsyncEmployeeApiClient}, so they hold no thread while the upstream answers.
+ *
+ * <p>While a {@link RosterPushSubscriber} is connected, changes arrive as they happen through
+ * {@link #applyPushed}, so the snapshot is served as current whatever its age and no reload is sent upstream.
+ *
+ * <p>A refresh that was already in flight when a local write happened may briefly hide that write; the next refresh
+ * picks it up from the upstream.
+ */
+@Component
+public class RosterCache implements MeterBinder {
+    private static final Logger logger = LoggerFactory.getLogger(RosterCache.class);
+    private static final String ROSTER_KEY = "roster";
+    private final EmployeeApiClient employeeApiClient;
+    private final AsyncEmployeeApiClient asyncEmployeeApiClient;
+    private final Duration ttl;
+    private final Duration refreshAhead;
+    private final Duration maxStale;
+    private final Clock clock;
+    private final AtomicReference<RosterSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean refreshInFlight = new AtomicBoolean();
+    private final SingleFlight<String, RosterSnapshot> rosterLoads = new SingleFlight<>();
+    private final List<RosterListener> listeners;
+    private final Object writeLock = new Object();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean pushConnected;
+
+    public RosterCache(
+            EmployeeApiClient employeeApiClient,
+            AsyncEmployeeApiClient asyncEmployeeApiClient,
+            @Value("${roster.cache.ttl:30s}") Duration ttl,
+            @Value("${roster.cache.refresh-ahead:5s}") Duration refreshAhead,
+            @Value("${roster.cache.max-stale:5m}") Duration maxStale,
+            Clock clock,
+            List<RosterListener> listeners) {
+        this.employeeApiClient = employeeApiClient;
+        this.asyncEmployeeApiClient = asyncEmployeeApiClient;
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead;
+        this.maxStale = maxStale;
+        this.clock = clock;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    public List<Employee> getEmployees() {
+        return getSnapshot().employees();
+    }
+
+    public RosterSnapshot getSnapshot() {
+        RosterSnapshot current = snapshot.get();
+        if (current == null) {
+            logger.debug("Roster cache is cold, loading synchronously");
+            misses.increment();
+            return reload();
+        }
+        if (pushConnected) {
+            hits.increment();
+            return current;
+        }
+
+        Duration age = current.age(clock);
+        if (age.compareTo(ttl.plus(maxStale)) >= 0) {
+            logger.info("Roster snapshot is {} old, reloading synchronously", age);
+            misses.increment();
+            try {
+                return reload();
+            } catch (RuntimeException e) {
+                if (!isUnavailable(e)) {
+                    throw e;
+                }
+                logger.warn("Upstream unavailable while reloading roster, serving snapshot that is {} old", age);
+                Staleness.record(age);
+                return current;
+            }
+        }
+        return serve(current, age);
+    }
+
+    /**
+     * Like {@link #getSnapshot()}, without blocking the caller: a cold or expired cache completes the future once the
+     * shared reload has, and any other lookup returns a completed future.
+     */
+    public CompletableFuture<RosterSnapshot> getSnapshotAsync() {
+        RosterSnapshot current = snapshot.get();
+        if (current == null) {
+            logger.debug("Roster cache is cold, loading asynchronously");
+            misses.increment();
+            return reloadAsync();
+        }
+        if (pushConnected) {
+            hits.increment();
+            return CompletableFuture.completedFuture(current);
+        }
+
+        Duration age = current.age(clock);
+        if (age.compareTo(ttl.plus(maxStale)) >= 0) {
+            logger.info("Roster snapshot is {} old, reloading asynchronously", age);
+            misses.increment();
+            Consumer<Duration> stale = Staleness.forCurrentRequest();
+            return reloadAsync().exceptionally(error -> {
+                Throwable cause = Futures.unwrap(error);
+                if (!isUnavailable(cause)) {
+                    throw new CompletionException(cause);
+                }
+                logger.warn("Upstream unavailable while reloading roster, serving snapshot that is {} old", age);
+                stale.accept(age);
+                return current;
+            });
+        }
+        return CompletableFuture.completedFuture(serve(current, age));
+    }
+
+    /**
+     * The cached snapshot if it is younger than the ttl. Never loads or refreshes anything.
+     */
+    public Optional<RosterSnapshot> getFreshSnapshot() {
+        RosterSnapshot current = snapshot.get();
+        if (current == null || (!pushConnected && current.age(clock).compareTo(ttl) >= 0)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(current);
+    }
+
+    /**
+     * Reads the roster from the upstream and replaces the cached snapshot. Concurrent callers share a single upstream
+     * request and its outcome.
+     */
+    public RosterSnapshot reload() {
+        return rosterLoads.execute(ROSTER_KEY, () -> {
+            String version = currentVersion();
+            if (version != null) {
+                Optional<EmployeeChanges> changes = employeeApiClient.fetchChangesSince(version);
+                if (changes.isPresent()) {
+                    return applyChanges(changes.get());
+                }
+            }
+            return apply(employeeApiClient.fetchRosterIfChanged(version));
+        });
+    }
+
+    /**
+     * Like {@link #reload()}, but while the upstream is throttling or unavailable, including while its circuit is open,
+     * the last snapshot is returned instead, marked as stale. Without a snapshot the failure is rethrown. While push is
+     * connected the snapshot is already current and is returned without a reload.
+     */
+    public RosterSnapshot reloadOrLastGood() {
+        RosterSnapshot pushed = snapshot.get();
+        if (pushConnected && pushed != null) {
+            hits.increment();
+            return pushed;
+        }
+        try {
+            return reload();
+        } catch (RuntimeException e) {
+            RosterSnapshot current = snapshot.get();
+            if (!isUnavailable(e) || current == null) {
+                throw e;
+            }
+            logger.warn(
+                    "Upstream unavailable while reloading roster, serving snapshot that is {} old", current.age(clock));
+            Staleness.record(current.age(clock));
+            return current;
+        }
+    }
+
+    /**
+     * Like {@link #reloadOrLastGood()}, without blocking the caller.
+     */
+    public CompletableFuture<RosterSnapshot> reloadOrLastGoodAsync() {
+        RosterSnapshot pushed = snapshot.get();
+        if (pushConnected && pushed != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(pushed);
+        }
+        Consumer<Duration> stale = Staleness.forCurrentRequest();
+        return reloadAsync().exceptionally(error -> {
+            Throwable cause = Futures.unwrap(error);
+            RosterSnapshot current = snapshot.get();
+            if (!isUnavailable(cause) || current == null) {
+                throw new CompletionException(cause);
+            }
+            logger.warn(
+                    "Upstream unavailable while reloading roster, serving snapshot that is {} old", current.age(clock));
+            stale.accept(current.age(clock));
+            return current;
+        });
+    }
+
+    /**
+     * Looks the employee up in the current snapshot, whatever its age, without loading anything. A hit is marked as
+     * stale, since it is only used when the upstream cannot be asked.
+     */
+    public Optional<Employee> findCached(String id) {
+        RosterSnapshot current = snapshot.get();
+        if (current == null) {
+            return Optional.empty();
+        }
+        Optional<Employee> cached = current.find(id);
+        cached.ifPresent(ignored -> Staleness.record(current.age(clock)));
+        return cached;
+    }
+
+    public CompletableFuture<RosterSnapshot> reloadAsync() {
+        return rosterLoads.executeAsync(ROSTER_KEY, () -> {
+            String version = currentVersion();
+            if (version == null) {
+                return asyncEmployeeApiClient.fetchRosterIfChanged(null).thenApply(this::apply);
+            }
+            return asyncEmployeeApiClient
+                    .fetchChangesSince(version)
+                    .thenCompose(changes -> changes.isPresent()
+                            ? CompletableFuture.completedFuture(applyChanges(changes.get()))
+                            : asyncEmployeeApiClient.fetchRosterIfChanged(version).thenApply(this::apply));
+        });
+    }
+
+    /**
+     * The upstream roster version of the snapshot, or {@code null} without a snapshot or a version.
+     */
+    public String currentVersion() {
+        RosterSnapshot current = snapshot.get();
+        return current == null ? null : current.version();
+    }
+
+    /**
+     * Applies a change pushed by the upstream under {@code version}, if it is the one that follows the snapshot.
+     * Changes the snapshot already has are ignored. After a gap, or a version from another upstream run, the change is
+     * dropped and a background reload catches up instead.
+     */
+    public void applyPushed(String version, EmployeeChange change) {
+        synchronized (writeLock) {
+            RosterSnapshot current = snapshot.get();
+            if (current == null || current.version() == null) {
+                return;
+            }
+            Optional<RosterVersion> from = RosterVersion.parse(current.version());
+            Optional<RosterVersion> to = RosterVersion.parse(version);
+            if (from.isPresent() && to.isPresent() && from.get().epoch().equals(to.get().epoch())) {
+                if (to.get().sequence() <= from.get().sequence()) {
+                    return;
+                }
+                if (to.get().sequence() == from.get().sequence() + 1) {
+                    applyChanges(new EmployeeChanges(version, List.of(change)));
+                    return;
+                }
+            }
+        }
+        logger.info("Pushed roster change {} does not follow the cached version, reloading", version);
+        refreshInBackground();
+    }
+
+    public void pushConnected() {
+        pushConnected = true;
+    }
+
+    public void pushDisconnected() {
+        pushConnected = false;
+    }
+
+    private RosterSnapshot applyChanges(EmployeeChanges changes) {
+        synchronized (writeLock) {
+            RosterSnapshot current = snapshot.get();
+            Set<String> changedIds = new HashSet<>();
+            for (EmployeeChange change : changes.changes()) {
+                changedIds.add(change.employee().getId());
+            }
+            Map<String, Employee> present = new HashMap<>();
+            for (Employee employee : current.employees()) {
+                if (changedIds.contains(employee.getId())) {
+                    present.put(employee.getId(), employee);
+                }
+            }
+            RosterSnapshot synced = current.withChanges(changes.changes(), changes.version(), clock.instant());
+            snapshot.set(synced);
+            for (EmployeeChange change : changes.changes()) {
+                Employee employee = change.employee();
+                if (change.type() == EmployeeChange.Type.CREATED) {
+                    // Creates made through this api are already in the snapshot and the listeners.
+                    if (!employee.equals(present.put(employee.getId(), employee))) {
+                        listeners.forEach(listener -> listener.onPut(employee));
+                    }
+                } else {
+                    Employee evicted = present.remove(employee.getId());
+                    if (evicted != null) {
+                        listeners.forEach(listener -> listener.onEvict(evicted));
+                    }
+                }
+            }
+            logger.debug("Applied {} roster changes, now at version {}", changes.changes().size(), changes.version());
+            return synced;
+        }
+    }
+
+    private RosterSnapshot apply(Optional<VersionedRoster> roster) {
+        synchronized (writeLock) {
+            if (roster.isEmpty()) {
+                RosterSnapshot current = snapshot.get();
+                if (current == null) {
+                    throw new IllegalStateException("Upstream answered 304 without a cached roster");
+                }
+                RosterSnapshot revalidated = current.revalidated(clock.instant());
+                snapshot.set(revalidated);
+                logger.debug("Roster unchanged upstream, keeping {} cached employees", current.employees().size());
+                return revalidated;
+            }
+            RosterSnapshot fresh =
+                    new RosterSnapshot(roster.get().employees(), clock.instant(), roster.get().version());
+            snapshot.set(fresh);
+            listeners.forEach(listener -> listener.onReplace(fresh.employees()));
+            return fresh;
+        }
+    }
+
+    public void put(Employee employee) {
+        synchronized (writeLock) {
+            RosterSnapshot current = snapshot.get();
+            if (current == null) {
+                return;
+            }
+            snapshot.set(current.withEmployee(employee));
+            listeners.forEach(listener -> listener.onPut(employee));
+        }
+    }
+
+    public void evict(String id) {
+        synchronized (writeLock) {
+            RosterSnapshot current = snapshot.get();
+            if (current == null) {
+                return;
+            }
+            current.find(id).ifPresent(evicted -> {
+                snapshot.set(current.withoutEmployee(id));
+                listeners.forEach(listener -> listener.onEvict(evicted));
+            });
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCounter(registry, "hit", hits);
+        bindCounter(registry, "stale", staleHits);
+        bindCounter(registry, "miss", misses);
+    }
+
+    private static void bindCounter(MeterRegistry registry, String result, LongAdder count) {
+        FunctionCounter.builder("roster.cache.requests", count, LongAdder::doubleValue)
+                .description("Roster cache lookups by result")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private RosterSnapshot serve(RosterSnapshot current, Duration age) {
+        if (age.compareTo(ttl.minus(refreshAhead)) >= 0) {
+            refreshInBackground();
+        }
+        if (age.compareTo(ttl) >= 0) {
+            staleHits.increment();
+            Staleness.record(age);
+        } else {
+            hits.increment();
+        }
+        return current;
+    }
+
+    /**
+     * Throttling, including our own rate limiter's, and unavailability, including an open circuit.
+     */
+    private static boolean isUnavailable(Throwable e) {
+        return e instanceof HttpClientErrorException.TooManyRequests
+                || e instanceof HttpServerErrorException.ServiceUnavailable
+                || e instanceof TooManyRequestsException
+                || e instanceof ServiceUnavailableException;
+    }
+
+    private void refreshInBackground() {
+        if (!refreshInFlight.compareAndSet(false, true)) {
+            return;
+        }
+        reloadAsync().whenComplete((fresh, error) -> {
+            refreshInFlight.set(false);
+            if (error != null) {
+                logger.warn("Background roster refresh failed, keeping current snapshot", error);
+            } else {
+                logger.debug("Background roster refresh completed");
+            }
+        });
+    }
+}
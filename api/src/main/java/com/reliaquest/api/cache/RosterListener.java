@@ -0,0 +1,27 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+
+/**
+ * Receives every change applied to the {@link RosterCache}, in order, so derived structures such as indexes can be
+ * kept in step with the cached snapshot. Callbacks run while the cache holds its write lock and must not call back
+ * into the cache.
+ */
+public interface RosterListener {
+
+    /**
+     * The whole roster was replaced by a fresh upstream read.
+     */
+    void onReplace(List<Employee> employees);
+
+    /**
+     * An employee was added, or replaced one with the same id.
+     */
+    void onPut(Employee employee);
+
+    /**
+     * An employee that was part of the snapshot was removed.
+     */
+    void onEvict(Employee employee);
+}
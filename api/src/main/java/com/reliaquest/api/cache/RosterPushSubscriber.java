@@ -0,0 +1,162 @@
+package com.reliaquest.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.stream.ServerSentEventReader;
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Long-lived Server-Sent Events subscription to the upstream's roster changes, applied to the {@link RosterCache} as
+ * they arrive.
+ *
+ * <p>The subscription starts once the cache holds a versioned snapshot and always resumes from the snapshot's version
+ * ({@code Last-Event-ID}), so a reconnect first replays whatever was missed. A {@code reset} event means the upstream
+ * can no longer replay from there and the cache reloads. While connected, the cache serves its snapshot without
+ * polling. Reconnects back off from {@code roster.push.reconnect-delay} up to {@code roster.push.max-reconnect-delay}.
+ *
+ * <p>The stream is read on a dedicated daemon thread and bypasses the rate limiter: the upstream does not count it
+ * against its request limit. It uses its own unpooled client, whose read timeout of {@code roster.push.read-timeout}
+ * allows for a few missed heartbeats, rather than the upstream pool.
+ */
+@Component
+public class RosterPushSubscriber implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(RosterPushSubscriber.class);
+    static final String CHANGE_EVENT = "change";
+    static final String RESET_EVENT = "reset";
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+    private final RestTemplate restTemplate;
+    private final String eventsUrl;
+    private final RosterCache rosterCache;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration reconnectDelay;
+    private final Duration maxReconnectDelay;
+    private final ServerSentEventReader eventReader = new ServerSentEventReader();
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    public RosterPushSubscriber(
+            RestTemplateBuilder restTemplateBuilder,
+            @Value("${mock.api.url}") String mockApiUrl,
+            RosterCache rosterCache,
+            ObjectMapper objectMapper,
+            @Value("${roster.push.enabled:true}") boolean enabled,
+            @Value("${roster.push.reconnect-delay:1s}") Duration reconnectDelay,
+            @Value("${roster.push.max-reconnect-delay:30s}") Duration maxReconnectDelay,
+            @Value("${mock.api.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${roster.push.read-timeout:45s}") Duration readTimeout) {
+        // unpooled, so the long-lived stream holds no upstream pool connection and reads time out with the heartbeat
+        this.restTemplate = restTemplateBuilder
+                .requestFactory(SimpleClientHttpRequestFactory.class)
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .build();
+        this.eventsUrl = mockApiUrl + "/events";
+        this.rosterCache = rosterCache;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.reconnectDelay = reconnectDelay;
+        this.maxReconnectDelay = maxReconnectDelay;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::run, "roster-push");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        rosterCache.pushDisconnected();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        Duration backoff = reconnectDelay;
+        while (running) {
+            String version = rosterCache.currentVersion();
+            Duration pause = reconnectDelay;
+            if (version != null) {
+                try {
+                    subscribe(version);
+                    backoff = reconnectDelay;
+                    logger.info("Roster push stream ended, reconnecting");
+                } catch (RuntimeException e) {
+                    pause = backoff;
+                    backoff = backoff.multipliedBy(2).compareTo(maxReconnectDelay) > 0
+                            ? maxReconnectDelay
+                            : backoff.multipliedBy(2);
+                    logger.warn("Roster push stream failed, retrying in {}: {}", pause, e.getMessage());
+                } finally {
+                    rosterCache.pushDisconnected();
+                }
+            }
+            try {
+                Thread.sleep(pause.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void subscribe(String version) {
+        logger.debug("Subscribing to roster changes after {}", version);
+        restTemplate.execute(
+                eventsUrl,
+                HttpMethod.GET,
+                request -> {
+                    request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                    request.getHeaders().set(LAST_EVENT_ID, version);
+                },
+                response -> {
+                    rosterCache.pushConnected();
+                    eventReader.read(response.getBody(), this::handle);
+                    return null;
+                });
+    }
+
+    void handle(ServerSentEventReader.Event event) {
+        if (CHANGE_EVENT.equals(event.name()) && event.id() != null) {
+            try {
+                rosterCache.applyPushed(event.id(), objectMapper.readValue(event.data(), EmployeeChange.class));
+            } catch (JsonProcessingException e) {
+                logger.warn("Ignoring unreadable roster change {}", event.id(), e);
+            }
+        } else if (RESET_EVENT.equals(event.name())) {
+            logger.info("Upstream cannot replay roster changes, reloading at version {}", event.data());
+            rosterCache.reloadAsync().whenComplete((snapshot, error) -> {
+                if (error != null) {
+                    logger.warn("Roster reload after reset failed", error);
+                }
+            });
+        }
+    }
+}
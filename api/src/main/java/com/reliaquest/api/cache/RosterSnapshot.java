@@ -0,0 +1,261 @@
+package com.reliaquest.api.cache;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable point-in-time copy of the upstream roster, with the upstream roster version it matches if the upstream
+ * reported one. Local writes produce a new snapshot that keeps the original {@code fetchedAt} and {@code version}, so
+ * expiry is always measured from the last upstream read.
+ *
+ * <p>A local write does not copy the roster. It is kept as a pending put or eviction on top of the last full list, so
+ * it costs O(pending writes). The full list is built the first time {@link #employees()} is asked for, and pending
+ * writes are folded into it once there are more than {@value #MAX_PENDING}. {@link #find} goes through an id index of
+ * the full list, built on first use and shared by every snapshot over the same list.
+ *
+ * <p>The upstream lists employees in id order, so puts and created employees are inserted where a fresh read would
+ * place them rather than appended.
+ */
+public final class RosterSnapshot {
+    private static final int MAX_PENDING = 64;
+    private static final Comparator<Employee> ID_ORDER =
+            Comparator.comparing(Employee::getId, Comparator.nullsLast(RosterSnapshot::compareIds));
+    private final Roster roster;
+    private final Map<String, Employee> pending;
+    private final Instant fetchedAt;
+    private final String version;
+    private volatile List<Employee> employees;
+
+    public RosterSnapshot(List<Employee> employees, Instant fetchedAt, String version) {
+        this(
+                new Roster(employees == null ? List.of() : List.copyOf(employees)),
+                Collections.emptyMap(),
+                fetchedAt,
+                version);
+    }
+
+    public RosterSnapshot(List<Employee> employees, Instant fetchedAt) {
+        this(employees, fetchedAt, null);
+    }
+
+    /**
+     * @param pending puts by id in the order they were made, with {@code null} for an eviction
+     */
+    private RosterSnapshot(Roster roster, Map<String, Employee> pending, Instant fetchedAt, String version) {
+        this.roster = roster;
+        this.pending = pending;
+        this.fetchedAt = Objects.requireNonNull(fetchedAt, "fetchedAt");
+        this.version = version;
+        if (pending.isEmpty()) {
+            this.employees = roster.employees();
+        }
+    }
+
+    public List<Employee> employees() {
+        List<Employee> built = employees;
+        if (built == null) {
+            built = merge(roster.employees(), pending);
+            employees = built;
+        }
+        return built;
+    }
+
+    public Instant fetchedAt() {
+        return fetchedAt;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public Duration age(Clock clock) {
+        return Duration.between(fetchedAt, clock.instant());
+    }
+
+    public Optional<Employee> find(String id) {
+        if (pending.containsKey(id)) {
+            return Optional.ofNullable(pending.get(id));
+        }
+        return Optional.ofNullable(roster.byId().get(id));
+    }
+
+    /**
+     * The same roster, confirmed unchanged by the upstream at {@code revalidatedAt}.
+     */
+    public RosterSnapshot revalidated(Instant revalidatedAt) {
+        return new RosterSnapshot(roster, pending, revalidatedAt, version);
+    }
+
+    /**
+     * The roster after the given upstream changes, applied in order in a single pass, as of {@code version}. A created
+     * employee the roster already holds unchanged, such as one this api created itself, keeps its place.
+     */
+    public RosterSnapshot withChanges(List<EmployeeChange> changes, String version, Instant syncedAt) {
+        if (changes.isEmpty()) {
+            return new RosterSnapshot(roster, pending, syncedAt, version);
+        }
+        Map<String, Employee> created = new LinkedHashMap<>();
+        Set<String> deleted = new HashSet<>();
+        for (EmployeeChange change : changes) {
+            String id = change.employee().getId();
+            if (change.type() == EmployeeChange.Type.CREATED) {
+                created.remove(id);
+                created.put(id, change.employee());
+                deleted.remove(id);
+            } else {
+                created.remove(id);
+                deleted.add(id);
+            }
+        }
+        List<Employee> current = employees();
+        List<Employee> kept = new ArrayList<>(current.size());
+        for (Employee existing : current) {
+            if (existing.equals(created.get(existing.getId()))) {
+                created.remove(existing.getId());
+                kept.add(existing);
+            } else if (!deleted.contains(existing.getId()) && !created.containsKey(existing.getId())) {
+                kept.add(existing);
+            }
+        }
+        return new RosterSnapshot(inIdOrder(kept, created.values()), syncedAt, version);
+    }
+
+    public RosterSnapshot withEmployee(Employee employee) {
+        return withPending(employee.getId(), employee);
+    }
+
+    public RosterSnapshot withoutEmployee(String id) {
+        return find(id).isEmpty() ? this : withPending(id, null);
+    }
+
+    private RosterSnapshot withPending(String id, Employee employee) {
+        List<Employee> built = employees;
+        Roster base = roster;
+        Map<String, Employee> writes;
+        if (built != null) {
+            // start over from the full list once it has been built anyway
+            base = built == roster.employees() ? roster : new Roster(built);
+            writes = new LinkedHashMap<>();
+        } else {
+            writes = new LinkedHashMap<>(pending);
+        }
+        writes.remove(id);
+        writes.put(id, employee);
+        if (writes.size() > MAX_PENDING) {
+            Roster folded = new Roster(merge(base.employees(), writes));
+            return new RosterSnapshot(folded, Collections.emptyMap(), fetchedAt, version);
+        }
+        return new RosterSnapshot(base, Collections.unmodifiableMap(writes), fetchedAt, version);
+    }
+
+    /**
+     * The full list with the pending writes applied: replaced and evicted employees drop out, and puts take their
+     * place in id order.
+     */
+    private static List<Employee> merge(List<Employee> employees, Map<String, Employee> pending) {
+        List<Employee> kept = new ArrayList<>(employees.size() + pending.size());
+        for (Employee existing : employees) {
+            if (!pending.containsKey(existing.getId())) {
+                kept.add(existing);
+            }
+        }
+        List<Employee> puts = new ArrayList<>(pending.size());
+        for (Employee put : pending.values()) {
+            if (put != null) {
+                puts.add(put);
+            }
+        }
+        return Collections.unmodifiableList(inIdOrder(kept, puts));
+    }
+
+    /**
+     * Inserts {@code added} into {@code kept}, which is in id order, in one pass that stops comparing once the last
+     * added employee is placed.
+     */
+    private static List<Employee> inIdOrder(List<Employee> kept, Collection<Employee> added) {
+        if (added.isEmpty()) {
+            return kept;
+        }
+        List<Employee> sorted = new ArrayList<>(added);
+        sorted.sort(ID_ORDER);
+        List<Employee> merged = new ArrayList<>(kept.size() + sorted.size());
+        int next = 0;
+        for (Employee existing : kept) {
+            while (next < sorted.size() && ID_ORDER.compare(sorted.get(next), existing) < 0) {
+                merged.add(sorted.get(next++));
+            }
+            merged.add(existing);
+        }
+        merged.addAll(sorted.subList(next, sorted.size()));
+        return merged;
+    }
+
+    /**
+     * The upstream's order: UUIDs as {@link UUID#compareTo} orders them, then any other ids as strings.
+     */
+    private static int compareIds(String left, String right) {
+        UUID leftUuid = uuidOrNull(left);
+        UUID rightUuid = uuidOrNull(right);
+        if (leftUuid != null && rightUuid != null) {
+            return leftUuid.compareTo(rightUuid);
+        }
+        if (leftUuid != null || rightUuid != null) {
+            return leftUuid != null ? -1 : 1;
+        }
+        return left.compareTo(right);
+    }
+
+    private static UUID uuidOrNull(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * A full list and its id index.
+     */
+    private static final class Roster {
+        private final List<Employee> employees;
+        private volatile Map<String, Employee> byId;
+
+        private Roster(List<Employee> employees) {
+            this.employees = employees;
+        }
+
+        List<Employee> employees() {
+            return employees;
+        }
+
+        Map<String, Employee> byId() {
+            Map<String, Employee> index = byId;
+            if (index == null) {
+                index = new HashMap<>(employees.size() * 4 / 3 + 1);
+                for (Employee employee : employees) {
+                    if (employee.getId() != null) {
+                        index.putIfAbsent(employee.getId(), employee);
+                    }
+                }
+                byId = index;
+            }
+            return index;
+        }
+    }
+}
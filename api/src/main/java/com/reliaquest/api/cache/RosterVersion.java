@@ -0,0 +1,23 @@
+package com.reliaquest.api.cache;
+
+import java.util.Optional;
+
+/**
+ * An upstream roster version, {@code <epoch>-<sequence>}: the epoch identifies a run of the upstream and the sequence
+ * counts the changes made during that run.
+ */
+record RosterVersion(String epoch, long sequence) {
+
+    static Optional<RosterVersion> parse(String version) {
+        int separator = version == null ? -1 : version.lastIndexOf('-');
+        if (separator < 1) {
+            return Optional.empty();
+        }
+        try {
+            long sequence = Long.parseLong(version.substring(separator + 1));
+            return Optional.of(new RosterVersion(version.substring(0, separator), sequence));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.function.Consumer;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Notes on the current web request that its answer came from a roster snapshot past its ttl, so the web layer can
+ * tell the client. Outside a web request this does nothing.
+ */
+public final class Staleness {
+    public static final String AGE_ATTRIBUTE = Staleness.class.getName() + ".age";
+
+    private Staleness() {}
+
+    static void record(Duration age) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(AGE_ATTRIBUTE, age, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Binds {@link #record} to the web request current on this thread, for answers completed on another thread.
+     */
+    static Consumer<Duration> forCurrentRequest() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return age -> request.setAttribute(AGE_ATTRIBUTE, age);
+        }
+        return age -> {};
+    }
+}
@@ -0,0 +1,281 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.DeleteEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.trace.TraceFilter;
+import com.reliaquest.api.trace.Traces;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeApiClient} for the single-employee operations and the roster reads behind
+ * the roster cache's reloads, on the JDK {@link HttpClient}. Every method returns as soon as the request is started.
+ * Waits for a rate limiter permit and between retries are timers, so a request holds no thread until its response
+ * arrives.
+ *
+ * <p>Requests pass the same {@link UpstreamRetry}, {@link UpstreamCircuitBreaker}, {@link UpstreamRateLimiter} and
+ * {@link UpstreamMetrics} as those of the blocking client. Error responses become the same
+ * {@link RestClientResponseException}s and I/O errors a {@link ResourceAccessException}, so both clients are
+ * throttled, retried and counted alike.
+ */
+@Component
+public class AsyncEmployeeApiClient {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEmployeeApiClient.class);
+    private static final TypeReference<ApiResponse<Employee>> EMPLOYEE = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<Boolean>> DELETED = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<List<Employee>>> ROSTER = new TypeReference<>() {};
+    private static final TypeReference<ApiResponse<EmployeeChanges>> CHANGES = new TypeReference<>() {};
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String mockApiUrl;
+    private final Duration readTimeout;
+    private final UpstreamRetry upstreamRetry;
+    private final UpstreamRateLimiter upstreamRateLimiter;
+    private final UpstreamCircuitBreaker upstreamCircuitBreaker;
+    private final UpstreamMetrics upstreamMetrics;
+    private final int pageSize;
+
+    public AsyncEmployeeApiClient(
+            HttpClient upstreamAsyncHttpClient,
+            ObjectMapper objectMapper,
+            @Value("${mock.api.url}") String mockApiUrl,
+            @Value("${mock.api.http.read-timeout:30s}") Duration readTimeout,
+            UpstreamRetry upstreamRetry,
+            UpstreamRateLimiter upstreamRateLimiter,
+            UpstreamCircuitBreaker upstreamCircuitBreaker,
+            UpstreamMetrics upstreamMetrics,
+            @Value("${mock.api.page-size:0}") int pageSize) {
+        this.httpClient = upstreamAsyncHttpClient;
+        this.objectMapper = objectMapper;
+        this.mockApiUrl = mockApiUrl;
+        this.readTimeout = readTimeout;
+        this.upstreamRetry = upstreamRetry;
+        this.upstreamRateLimiter = upstreamRateLimiter;
+        this.upstreamCircuitBreaker = upstreamCircuitBreaker;
+        this.upstreamMetrics = upstreamMetrics;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Like {@link EmployeeApiClient#fetchRosterIfChanged}: one conditional request, or with {@code mock.api.page-size}
+     * set, one request per page and no version.
+     *
+     * @return the roster, or empty if the upstream answered 304 because it is unchanged since {@code version}
+     */
+    public CompletableFuture<Optional<VersionedRoster>> fetchRosterIfChanged(String version) {
+        if (pageSize > 0) {
+            return fetchRemainingPages(null, new ArrayList<>())
+                    .thenApply(employees -> Optional.of(new VersionedRoster(employees, null)));
+        }
+        HttpRequest.Builder builder = request(mockApiUrl);
+        if (version != null) {
+            builder.header(HttpHeaders.IF_NONE_MATCH, "\"" + version + "\"");
+        }
+        HttpRequest request = builder.GET().build();
+        return retried("fetchAllEmployees", () -> exchange(request).thenApply(response -> {
+            if (version != null && response.statusCode() == HttpStatus.NOT_MODIFIED.value()) {
+                logger.debug("Roster unchanged since {}", version);
+                return Optional.empty();
+            }
+            List<Employee> employees = read(request, response, ROSTER);
+            List<Employee> roster = employees != null ? employees : List.of();
+            logger.info("Successfully fetched {} employees", roster.size());
+            String etag = response.headers().firstValue(HttpHeaders.ETAG).orElse(null);
+            return Optional.of(new VersionedRoster(roster, EmployeeApiClient.versionOf(etag)));
+        }));
+    }
+
+    /**
+     * @return the changes made after {@code version}, or empty if the upstream no longer has them (410)
+     */
+    public CompletableFuture<Optional<EmployeeChanges>> fetchChangesSince(String version) {
+        HttpRequest request = request(mockApiUrl + "/changes?since=" + version).GET().build();
+        return retried("fetchChangesSince", () -> send(request, CHANGES).handle((changes, error) -> {
+            Throwable cause = Futures.unwrap(error);
+            if (cause instanceof HttpClientErrorException.Gone) {
+                logger.info("Roster changes since {} are no longer available upstream", version);
+                return Optional.empty();
+            }
+            if (cause != null) {
+                throw new CompletionException(cause);
+            }
+            return Optional.ofNullable(changes);
+        }));
+    }
+
+    /**
+     * @return the employee, or {@code null} if the upstream does not know the id
+     */
+    public CompletableFuture<Employee> fetchEmployeeById(String id) {
+        HttpRequest request = request(mockApiUrl + "/" + id).GET().build();
+        return retried("fetchEmployeeById", () -> send(request, EMPLOYEE).exceptionally(error -> {
+            Throwable cause = Futures.unwrap(error);
+            if (cause instanceof HttpClientErrorException.NotFound) {
+                logger.warn("Employee with id {} not found in remote API", id);
+                return null;
+            }
+            throw new CompletionException(cause);
+        }));
+    }
+
+    /**
+     * Not retried, for the same reason as {@link EmployeeApiClient#createEmployee}.
+     */
+    public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+        HttpRequest request = request(mockApiUrl)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json(employeeInput)))
+                .build();
+        return guarded("createEmployee", () -> send(request, EMPLOYEE))
+                .thenApply(newEmployee -> {
+                    logger.info("Successfully created employee: {}", newEmployee);
+                    return newEmployee;
+                });
+    }
+
+    public CompletableFuture<Boolean> deleteEmployeeByName(String name) {
+        HttpRequest request = request(mockApiUrl)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .method("DELETE", HttpRequest.BodyPublishers.ofByteArray(json(new DeleteEmployeeInput(name))))
+                .build();
+        return retried("deleteEmployeeByName", () -> send(request, DELETED).handle((deleted, error) -> {
+            Throwable cause = Futures.unwrap(error);
+            if (cause instanceof HttpClientErrorException.NotFound) {
+                logger.warn("Employee with name {} not found, cannot delete", name);
+                return false;
+            }
+            if (cause != null) {
+                throw new CompletionException(cause);
+            }
+            return Boolean.TRUE.equals(deleted);
+        }));
+    }
+
+    private CompletableFuture<List<Employee>> fetchRemainingPages(String after, List<Employee> employees) {
+        String url = after == null
+                ? mockApiUrl + "?limit=" + pageSize
+                : mockApiUrl + "?after=" + after + "&limit=" + pageSize;
+        HttpRequest request = request(url).GET().build();
+        return retried("fetchEmployeePage", () -> send(request, ROSTER)).thenCompose(page -> {
+            List<Employee> fetched = page != null ? page : List.of();
+            employees.addAll(fetched);
+            if (fetched.size() < pageSize) {
+                logger.info("Successfully fetched {} employees page by page", employees.size());
+                return CompletableFuture.completedFuture(employees);
+            }
+            return fetchRemainingPages(fetched.get(fetched.size() - 1).getId(), employees);
+        });
+    }
+
+    private <T> CompletableFuture<T> retried(String operation, Supplier<CompletableFuture<T>> call) {
+        return upstreamRetry.composeAsync(operation, () -> guarded(operation, call));
+    }
+
+    private <T> CompletableFuture<T> guarded(String operation, Supplier<CompletableFuture<T>> call) {
+        return upstreamCircuitBreaker.callAsync(
+                operation,
+                () -> upstreamRateLimiter.callAsync(operation, () -> upstreamMetrics.timedAsync(operation, call)));
+    }
+
+    /**
+     * Built on the calling thread, which carries the trace id of the request being handled.
+     */
+    private HttpRequest.Builder request(String url) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(readTimeout)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        Traces.currentTraceId().ifPresent(traceId -> builder.header(TraceFilter.TRACE_ID_HEADER, traceId));
+        return builder;
+    }
+
+    private <T> CompletableFuture<T> send(HttpRequest request, TypeReference<ApiResponse<T>> type) {
+        return exchange(request).thenApply(response -> read(request, response, type));
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> exchange(HttpRequest request) {
+        return httpClient
+                .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    Throwable cause = Futures.unwrap(error);
+                    if (cause instanceof IOException e) {
+                        throw new ResourceAccessException(
+                                "I/O error on " + request.method() + " request for \"" + request.uri() + "\": "
+                                        + e.getMessage(),
+                                e);
+                    }
+                    if (cause != null) {
+                        throw new CompletionException(cause);
+                    }
+                    return response;
+                });
+    }
+
+    private <T> T read(HttpRequest request, HttpResponse<byte[]> response, TypeReference<ApiResponse<T>> type) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.statusCode());
+        if (status.isError()) {
+            throw errorOf(status, response);
+        }
+        if (response.body().length == 0) {
+            return null;
+        }
+        try {
+            ApiResponse<T> body = objectMapper.readValue(response.body(), type);
+            return body != null ? body.getData() : null;
+        } catch (IOException e) {
+            throw new RestClientException(
+                    "Could not read the response to " + request.method() + " " + request.uri(), e);
+        }
+    }
+
+    /**
+     * The exception {@code RestTemplate} would have thrown for the same response.
+     */
+    private static RestClientResponseException errorOf(HttpStatusCode status, HttpResponse<byte[]> response) {
+        HttpHeaders headers = new HttpHeaders();
+        response.headers().map().forEach(headers::addAll);
+        String statusText = status.toString();
+        if (status.is4xxClientError()) {
+            return HttpClientErrorException.create(
+                    status, statusText, headers, response.body(), StandardCharsets.UTF_8);
+        }
+        return HttpServerErrorException.create(status, statusText, headers, response.body(), StandardCharsets.UTF_8);
+    }
+
+    private byte[] json(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not write request body", e);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.DeleteEmployeeInput;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChanges;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.trace.Traces;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Thin HTTP gateway to the mock employee API. Every method maps to exactly one upstream request, retried through
+ * {@link UpstreamRetry} where that is safe; caching and aggregation live in the service layer. Every attempt passes
+ * the {@link UpstreamCircuitBreaker} and then takes a permit from the {@link UpstreamRateLimiter}; the requests that
+ * are sent are timed by {@link UpstreamMetrics}. The exception is the roster read: with {@code mock.api.page-size} set
+ * it walks the roster page by page through an {@link EmployeePageIterator}, and with the default of 0 it fetches the
+ * whole list in one request.
+ *
+ * <p>The upstream versions its roster. Single-request roster reads carry the version as their {@code ETag} and can be
+ * made conditional on it, and {@link #fetchChangesSince} returns only what changed after a version.
+ */
+@Component
+public class EmployeeApiClient {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeApiClient.class);
+    private final RestTemplate restTemplate;
+    private final String mockApiUrl;
+    private final UpstreamRetry upstreamRetry;
+    private final UpstreamRateLimiter upstreamRateLimiter;
+    private final UpstreamCircuitBreaker upstreamCircuitBreaker;
+    private final UpstreamMetrics upstreamMetrics;
+    private final int pageSize;
+
+    public EmployeeApiClient(
+            RestTemplate restTemplate,
+            @Value("${mock.api.url}") String mockApiUrl,
+            UpstreamRetry upstreamRetry,
+            UpstreamRateLimiter upstreamRateLimiter,
+            UpstreamCircuitBreaker upstreamCircuitBreaker,
+            UpstreamMetrics upstreamMetrics,
+            @Value("${mock.api.page-size:0}") int pageSize) {
+        this.restTemplate = restTemplate;
+        this.mockApiUrl = mockApiUrl;
+        this.upstreamRetry = upstreamRetry;
+        this.upstreamRateLimiter = upstreamRateLimiter;
+        this.upstreamCircuitBreaker = upstreamCircuitBreaker;
+        this.upstreamMetrics = upstreamMetrics;
+        this.pageSize = pageSize;
+    }
+
+    public List<Employee> fetchAllEmployees() {
+        if (pageSize > 0) {
+            List<Employee> employees = new ArrayList<>();
+            iterateEmployees(pageSize).forEachRemaining(employees::add);
+            logger.info("Successfully fetched {} employees page by page", employees.size());
+            return employees;
+        }
+        return retried("fetchAllEmployees", () -> exchangeRoster(null)).orElseThrow().employees();
+    }
+
+    /**
+     * Reads the roster, unless it is still at {@code version}.
+     *
+     * @return the roster, or empty if the upstream answered 304 because it is unchanged since {@code version}
+     */
+    public Optional<VersionedRoster> fetchRosterIfChanged(String version) {
+        if (pageSize > 0) {
+            return Optional.of(new VersionedRoster(fetchAllEmployees(), null));
+        }
+        return retried("fetchAllEmployees", () -> exchangeRoster(version));
+    }
+
+    /**
+     * Reads the roster changes made after {@code version}.
+     *
+     * @return the changes, or empty if the upstream no longer has them (410) and the roster must be read in full
+     */
+    public Optional<EmployeeChanges> fetchChangesSince(String version) {
+        return retried("fetchChangesSince", () -> exchangeChangesSince(version));
+    }
+
+    /**
+     * Lazily walks the roster in pages of {@code limit}, requesting each page while the previous one is being
+     * consumed.
+     */
+    public Iterator<Employee> iterateEmployees(int limit) {
+        return new EmployeePageIterator(this, limit);
+    }
+
+    public List<Employee> fetchEmployeePage(String after, int limit) {
+        return retried("fetchEmployeePage", () -> exchangeEmployeePage(after, limit));
+    }
+
+    public CompletableFuture<List<Employee>> fetchEmployeePageAsync(String after, int limit) {
+        return retriedAsync("fetchEmployeePage", () -> exchangeEmployeePage(after, limit));
+    }
+
+    public Employee fetchEmployeeById(String id) {
+        return retried("fetchEmployeeById", () -> exchangeEmployeeById(id));
+    }
+
+    public CompletableFuture<Employee> fetchEmployeeByIdAsync(String id) {
+        return retriedAsync("fetchEmployeeById", () -> exchangeEmployeeById(id));
+    }
+
+    /**
+     * Not retried: the upstream assigns a new id on every POST, so a retry after a lost response would create a
+     * duplicate.
+     */
+    public Employee createEmployee(EmployeeInput employeeInput) {
+        return guarded("createEmployee", () -> exchangeCreateEmployee(employeeInput));
+    }
+
+    /**
+     * Hands the outcome to {@code onResult} once the upstream has answered. With {@code retry.mode=async} that can be
+     * after this call has given up with a 429, so anything that must follow the upstream's answer belongs there.
+     */
+    public boolean deleteEmployeeByName(String name, Consumer<Boolean> onResult) {
+        return upstreamRetry.execute(
+                "deleteEmployeeByName",
+                () -> guarded("deleteEmployeeByName", () -> exchangeDeleteByName(name)),
+                onResult);
+    }
+
+    private <T> T retried(String operation, Supplier<T> call) {
+        return upstreamRetry.execute(operation, () -> guarded(operation, call));
+    }
+
+    private <T> CompletableFuture<T> retriedAsync(String operation, Supplier<T> call) {
+        return upstreamRetry.executeAsync(operation, () -> guarded(operation, call));
+    }
+
+    private <T> T guarded(String operation, Supplier<T> call) {
+        return Traces.span(
+                "upstream." + operation,
+                () -> upstreamCircuitBreaker.call(
+                        operation,
+                        () -> upstreamRateLimiter.call(operation, () -> upstreamMetrics.timed(operation, call))));
+    }
+
+    private Employee exchangeCreateEmployee(EmployeeInput employeeInput) {
+        try {
+            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
+                    mockApiUrl,
+                    HttpMethod.POST,
+                    new HttpEntity<>(employeeInput),
+                    new ParameterizedTypeReference<ApiResponse<Employee>>() {});
+            Employee newEmployee =
+                    response.getBody() != null ? response.getBody().getData() : null;
+            logger.info("Successfully created employee: {}", newEmployee);
+            return newEmployee;
+        } catch (HttpClientErrorException e) {
+            logger.error("Error while creating employee: {}", employeeInput, e);
+            throw e;
+        }
+    }
+
+    private Optional<VersionedRoster> exchangeRoster(String version) {
+        HttpHeaders headers = new HttpHeaders();
+        if (version != null) {
+            headers.setIfNoneMatch("\"" + version + "\"");
+        }
+        try {
+            ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
+                    mockApiUrl,
+                    HttpMethod.GET,
+                    new HttpEntity<>(headers),
+                    new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
+            if (version != null && response.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                logger.debug("Roster unchanged since {}", version);
+                return Optional.empty();
+            }
+            List<Employee> employees =
+                    Objects.nonNull(response.getBody()) ? response.getBody().getData() : Collections.emptyList();
+            logger.info("Successfully fetched {} employees", employees.size());
+            return Optional.of(new VersionedRoster(employees, versionOf(response.getHeaders().getETag())));
+        } catch (HttpClientErrorException e) {
+            logger.error("Error while fetching all employees", e);
+            throw e;
+        }
+    }
+
+    private Optional<EmployeeChanges> exchangeChangesSince(String version) {
+        try {
+            ResponseEntity<ApiResponse<EmployeeChanges>> response = restTemplate.exchange(
+                    mockApiUrl + "/changes?since=" + version,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<ApiResponse<EmployeeChanges>>() {});
+            EmployeeChanges changes = response.getBody() != null ? response.getBody().getData() : null;
+            if (changes != null) {
+                logger.debug("Fetched {} roster changes since {}", changes.changes().size(), version);
+            }
+            return Optional.ofNullable(changes);
+        } catch (HttpClientErrorException.Gone e) {
+            logger.info("Roster changes since {} are no longer available upstream", version);
+            return Optional.empty();
+        } catch (HttpClientErrorException e) {
+            logger.error("Error while fetching roster changes since {}", version, e);
+            throw e;
+        }
+    }
+
+    /**
+     * The roster version carried by an {@code ETag}, which is the version in quotes.
+     */
+    static String versionOf(String etag) {
+        if (etag == null) {
+            return null;
+        }
+        String strong = etag.startsWith("W/") ? etag.substring(2) : etag;
+        return strong.length() >= 2 && strong.startsWith("\"") && strong.endsWith("\"")
+                ? strong.substring(1, strong.length() - 1)
+                : strong;
+    }
+
+    private List<Employee> exchangeEmployeePage(String after, int limit) {
+        String url = after == null
+                ? mockApiUrl + "?limit=" + limit
+                : mockApiUrl + "?after=" + after + "&limit=" + limit;
+        try {
+            ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
+                    url, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
+            List<Employee> employees = Objects.nonNull(response.getBody()) && response.getBody().getData() != null
+                    ? response.getBody().getData()
+                    : Collections.emptyList();
+            logger.debug("Fetched page of {} employees after {}", employees.size(), after);
+            return employees;
+        } catch (HttpClientErrorException e) {
+            logger.error("Error while fetching employee page after {}", after, e);
+            throw e;
+        }
+    }
+
+    private Employee exchangeEmployeeById(String id) {
+        try {
+            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
+                    mockApiUrl + "/" + id,
+                    HttpMethod.GET,
+                    null,
+                    new ParameterizedTypeReference<ApiResponse<Employee>>() {});
+            Employee employee =
+                    Objects.nonNull(response.getBody()) ? response.getBody().getData() : null;
+            if (employee != null) {
+                logger.info("Successfully fetched employee with id: {}", id);
+            } else {
+                logger.warn("No employee found with id: {}", id);
+            }
+            return employee;
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.warn("Employee with id {} not found in remote API", id);
+            return null;
+        } catch (HttpClientErrorException e) {
+            logger.error("Error while fetching employee with id: {}", id, e);
+            throw e;
+        }
+    }
+
+    private boolean exchangeDeleteByName(String name) {
+        try {
+            HttpEntity<DeleteEmployeeInput> httpEntity = new HttpEntity<>(new DeleteEmployeeInput(name));
+            ResponseEntity<ApiResponse<Boolean>> response = restTemplate.exchange(
+                    mockApiUrl, HttpMethod.DELETE, httpEntity, new ParameterizedTypeReference<>() {});
+            return response.getBody() != null && Boolean.TRUE.equals(response.getBody().getData());
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.warn("Employee with name {} not found, cannot delete", name);
+            return false;
+        } catch (HttpClientErrorException e) {
+            logger.error("Error while deleting employee with name: {}", name, e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Iterates the upstream roster one keyset page at a time. Nothing is requested until the first {@link #hasNext()};
+ * after that, as soon as a full page arrives the request for the following page is sent, so the next page is usually
+ * already on its way while the caller works through the current one. At most one page is held ahead of the caller.
+ *
+ * <p>A page shorter than the page size marks the end of the roster.
+ */
+public class EmployeePageIterator implements Iterator<Employee> {
+    private final EmployeeApiClient employeeApiClient;
+    private final int pageSize;
+    private Iterator<Employee> current = Collections.emptyIterator();
+    private CompletableFuture<List<Employee>> prefetched;
+    private boolean started;
+    private boolean lastPage;
+
+    public EmployeePageIterator(EmployeeApiClient employeeApiClient, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+        this.employeeApiClient = employeeApiClient;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (lastPage) {
+                return false;
+            }
+            List<Employee> page = started ? await(prefetched) : employeeApiClient.fetchEmployeePage(null, pageSize);
+            started = true;
+            lastPage = page.size() < pageSize;
+            prefetched = lastPage
+                    ? null
+                    : employeeApiClient.fetchEmployeePageAsync(page.get(page.size() - 1).getId(), pageSize);
+            current = page.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public Employee next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    private static List<Employee> await(CompletableFuture<List<Employee>> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.stream.EmployeeSource;
+import com.reliaquest.api.stream.EmployeeStreamReader;
+import java.util.List;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * The upstream roster as an {@link EmployeeSource}: one {@code GET} whose body is parsed while it is being received
+ * instead of being bound to a list first. When the visitor stops early the rest of the body is not parsed.
+ *
+ * <p>Throttling responses are retried like every other read. They fail before the body is read, so a retry never
+ * replays employees to the visitor. The retries always block the calling thread, even with {@code retry.mode=async}:
+ * the visitor usually writes into the caller's response, which must not be written after the caller gave up.
+ */
+@Component
+public class EmployeeRosterStream implements EmployeeSource {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeRosterStream.class);
+    private static final String STREAM_OPERATION = "streamAllEmployees";
+    private final RestTemplate restTemplate;
+    private final String mockApiUrl;
+    private final UpstreamRetry upstreamRetry;
+    private final UpstreamRateLimiter upstreamRateLimiter;
+    private final UpstreamCircuitBreaker upstreamCircuitBreaker;
+    private final UpstreamMetrics upstreamMetrics;
+    private final EmployeeStreamReader employeeStreamReader;
+
+    public EmployeeRosterStream(
+            RestTemplate restTemplate,
+            @Value("${mock.api.url}") String mockApiUrl,
+            UpstreamRetry upstreamRetry,
+            UpstreamRateLimiter upstreamRateLimiter,
+            UpstreamCircuitBreaker upstreamCircuitBreaker,
+            UpstreamMetrics upstreamMetrics,
+            ObjectMapper objectMapper) {
+        this.restTemplate = restTemplate;
+        this.mockApiUrl = mockApiUrl;
+        this.upstreamRetry = upstreamRetry;
+        this.upstreamRateLimiter = upstreamRateLimiter;
+        this.upstreamCircuitBreaker = upstreamCircuitBreaker;
+        this.upstreamMetrics = upstreamMetrics;
+        this.employeeStreamReader = new EmployeeStreamReader(objectMapper);
+    }
+
+    @Override
+    public void visit(Predicate<Employee> visitor) {
+        Integer read = upstreamRetry.executeBlocking(STREAM_OPERATION, () -> guarded(visitor));
+        logger.info("Streamed {} employees from the upstream", read);
+    }
+
+    private Integer guarded(Predicate<Employee> visitor) {
+        return upstreamCircuitBreaker.call(
+                STREAM_OPERATION,
+                () -> upstreamRateLimiter.call(
+                        STREAM_OPERATION, () -> upstreamMetrics.timed(STREAM_OPERATION, () -> exchange(visitor))));
+    }
+
+    private Integer exchange(Predicate<Employee> visitor) {
+        return restTemplate.execute(
+                mockApiUrl,
+                HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> employeeStreamReader.read(response.getBody(), visitor));
+    }
+}
@@ -0,0 +1,32 @@
+package com.reliaquest.api.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Helpers for the asynchronous upstream call chain, where a failure may arrive thrown or wrapped in a
+ * {@link CompletionException} depending on how far down the chain it happened.
+ */
+public final class Futures {
+
+    private Futures() {}
+
+    /**
+     * Starts the call, turning an exception thrown while starting it into a failed future.
+     */
+    public static <T> CompletableFuture<T> invoke(Supplier<CompletableFuture<T>> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * The exception a future failed with, without the {@link CompletionException} dependent stages wrap it in.
+     */
+    public static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
@@ -0,0 +1,36 @@
+package com.reliaquest.api.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Parses the {@code Retry-After} response header, which is either a number of seconds or an HTTP date.
+ */
+final class RetryAfter {
+
+    private RetryAfter() {}
+
+    static Optional<Duration> parse(HttpHeaders headers, Clock clock) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim()))));
+        } catch (NumberFormatException ignored) {
+            // not delta-seconds, try the HTTP-date form below
+        }
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(clock.instant(), retryAt.toInstant());
+            return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.api.client;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one execution. The first caller runs the call; everyone who
+ * arrives while it is in flight waits for and shares its result or exception. Once the call finishes the key is
+ * released, so the next burst triggers a new execution.
+ *
+ * @param <K> key identifying the upstream resource
+ * @param <V> result of the call
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> leader = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = call.get();
+            leader.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #execute}. Shares the same in-flight table, so synchronous and asynchronous
+     * callers for one key are coalesced with each other.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> leader = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<V> source;
+        try {
+            source = call.get();
+        } catch (RuntimeException | Error e) {
+            source = CompletableFuture.failedFuture(e);
+        }
+        source.whenComplete((value, error) -> {
+            inFlight.remove(key, leader);
+            if (error != null) {
+                leader.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+            } else {
+                leader.complete(value);
+            }
+        });
+        return leader;
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.CircuitOpenException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Stops calling the upstream while it is failing, so callers get an answer in microseconds instead of after a full
+ * retry sequence.
+ *
+ * <ul>
+ *   <li>{@link State#CLOSED}: calls go through. The outcomes of the last {@code window-size} calls are kept, and once
+ *       at least {@code minimum-calls} of them are recorded and {@code failure-rate-threshold} percent or more have
+ *       failed, the circuit opens.
+ *   <li>{@link State#OPEN}: calls are rejected with {@link CircuitOpenException} for {@code open-duration}.
+ *   <li>{@link State#HALF_OPEN}: up to {@code half-open-calls} trial calls go through. If all of them succeed the
+ *       circuit closes with an empty window; the first failure opens it again.
+ * </ul>
+ *
+ * A failure is a 429, a 5xx or an I/O error. Other client errors, such as a 404 for an unknown id, mean the upstream is
+ * healthy and count as successes. Calls that end without reaching the upstream, such as a local rate limiter
+ * rejection, are not recorded.
+ *
+ * <p>The current state is published as the gauge {@code employee.upstream.circuit.state}, 1 for the tag of the current
+ * state and 0 for the others.
+ */
+@Component
+public class UpstreamCircuitBreaker implements MeterBinder {
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamCircuitBreaker.class);
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final boolean enabled;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final Duration openDuration;
+    private final int halfOpenCalls;
+    private final Clock clock;
+
+    private final boolean[] window;
+    private int windowPosition;
+    private int recordedCalls;
+    private int failedCalls;
+    private State state = State.CLOSED;
+    private long openedAtMillis;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public UpstreamCircuitBreaker(
+            @Value("${circuit-breaker.enabled:true}") boolean enabled,
+            @Value("${circuit-breaker.window-size:20}") int windowSize,
+            @Value("${circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${circuit-breaker.open-duration:30s}") Duration openDuration,
+            @Value("${circuit-breaker.half-open-calls:2}") int halfOpenCalls,
+            Clock clock) {
+        this.enabled = enabled;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, window.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.clock = clock;
+    }
+
+    /**
+     * @throws CircuitOpenException without calling the upstream while the circuit is open
+     */
+    public <T> T call(String operation, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        acquirePermission(operation);
+        boolean recorded = false;
+        try {
+            T result = call.get();
+            record(true);
+            recorded = true;
+            return result;
+        } catch (RestClientResponseException e) {
+            record(!isFailure(e));
+            recorded = true;
+            throw e;
+        } catch (ResourceAccessException e) {
+            record(false);
+            recorded = true;
+            throw e;
+        } finally {
+            if (!recorded) {
+                release();
+            }
+        }
+    }
+
+    /**
+     * Like {@link #call}, for a request whose outcome arrives on another thread. It is recorded when the future
+     * completes, and a rejection is returned as a failed future instead of being thrown.
+     */
+    public <T> CompletableFuture<T> callAsync(String operation, Supplier<CompletableFuture<T>> call) {
+        if (!enabled) {
+            return Futures.invoke(call);
+        }
+        try {
+            acquirePermission(operation);
+        } catch (CircuitOpenException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return Futures.invoke(call).whenComplete((result, error) -> {
+            Throwable cause = Futures.unwrap(error);
+            if (cause == null) {
+                record(true);
+            } else if (cause instanceof RestClientResponseException e) {
+                record(!isFailure(e));
+            } else if (cause instanceof ResourceAccessException) {
+                record(false);
+            } else {
+                release();
+            }
+        });
+    }
+
+    public synchronized State state() {
+        if (state == State.OPEN && openDurationElapsed()) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (State candidate : State.values()) {
+            Gauge.builder("employee.upstream.circuit.state", this, breaker -> breaker.state() == candidate ? 1 : 0)
+                    .description("Whether the upstream circuit breaker is in this state")
+                    .tag("state", candidate.name())
+                    .register(registry);
+        }
+    }
+
+    synchronized void acquirePermission(String operation) {
+        if (state == State.OPEN) {
+            if (!openDurationElapsed()) {
+                logger.debug("{} rejected, upstream circuit is open", operation);
+                throw new CircuitOpenException("Upstream is unavailable, please retry later");
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                throw new CircuitOpenException("Upstream is being probed, please retry later");
+            }
+            halfOpenPermits++;
+        }
+    }
+
+    synchronized void record(boolean success) {
+        switch (state) {
+            case CLOSED -> {
+                if (recordedCalls == window.length) {
+                    if (!window[windowPosition]) {
+                        failedCalls--;
+                    }
+                } else {
+                    recordedCalls++;
+                }
+                window[windowPosition] = success;
+                if (!success) {
+                    failedCalls++;
+                }
+                windowPosition = (windowPosition + 1) % window.length;
+                if (recordedCalls >= minimumCalls && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+                    logger.warn("{} of the last {} upstream calls failed", failedCalls, recordedCalls);
+                    transitionTo(State.OPEN);
+                }
+            }
+            case HALF_OPEN -> {
+                if (!success) {
+                    transitionTo(State.OPEN);
+                } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                    transitionTo(State.CLOSED);
+                }
+            }
+            case OPEN -> {
+                // a call admitted before the circuit opened, its outcome no longer matters
+            }
+        }
+    }
+
+    private synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    private boolean openDurationElapsed() {
+        return clock.millis() - openedAtMillis >= openDuration.toMillis();
+    }
+
+    private void transitionTo(State next) {
+        logger.warn("Upstream circuit {} -> {}", state, next);
+        state = next;
+        switch (next) {
+            case OPEN -> openedAtMillis = clock.millis();
+            case HALF_OPEN -> {
+                halfOpenPermits = 0;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                windowPosition = 0;
+                recordedCalls = 0;
+                failedCalls = 0;
+            }
+        }
+    }
+
+    private static boolean isFailure(RestClientResponseException e) {
+        return e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()
+                || e.getStatusCode().is5xxServerError();
+    }
+}
@@ -0,0 +1,103 @@
+package com.reliaquest.api.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Micrometer meters for calls to the upstream, all tagged with the client operation:
+ *
+ * <ul>
+ *   <li>{@code employee.upstream.requests}: timer of every request that was actually sent, tagged with the response
+ *       status, {@code IO_ERROR} or {@code OK};
+ *   <li>{@code employee.upstream.throttled}: counter of 429 and 503 responses;
+ *   <li>{@code employee.upstream.retries}: counter of attempts scheduled by {@link UpstreamRetry}.
+ * </ul>
+ *
+ * Calls rejected locally by the circuit breaker or rate limiter are not timed, they never reach the upstream.
+ */
+@Component
+public class UpstreamMetrics {
+    static final String REQUESTS = "employee.upstream.requests";
+    static final String THROTTLED = "employee.upstream.throttled";
+    static final String RETRIES = "employee.upstream.retries";
+    private static final String OK = "OK";
+    private static final String IO_ERROR = "IO_ERROR";
+    private static final String ERROR = "ERROR";
+
+    private final MeterRegistry meterRegistry;
+
+    public UpstreamMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Runs a single upstream request and records its latency and status.
+     */
+    public <T> T timed(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = ERROR;
+        try {
+            T result = call.get();
+            status = OK;
+            return result;
+        } catch (RuntimeException e) {
+            status = statusOf(operation, e);
+            throw e;
+        } finally {
+            stop(sample, operation, status);
+        }
+    }
+
+    /**
+     * Like {@link #timed}, for a request whose response arrives on another thread. The latency is recorded when the
+     * future completes.
+     */
+    public <T> CompletableFuture<T> timedAsync(String operation, Supplier<CompletableFuture<T>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return Futures.invoke(call)
+                .whenComplete((result, error) ->
+                        stop(sample, operation, error == null ? OK : statusOf(operation, Futures.unwrap(error))));
+    }
+
+    public void recordRetry(String operation, RestClientResponseException cause) {
+        Counter.builder(RETRIES)
+                .description("Upstream attempts retried after a throttling response")
+                .tag("operation", operation)
+                .tag("status", String.valueOf(cause.getStatusCode().value()))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String statusOf(String operation, Throwable error) {
+        if (error instanceof RestClientResponseException e) {
+            int code = e.getStatusCode().value();
+            String status = String.valueOf(code);
+            if (code == HttpStatus.TOO_MANY_REQUESTS.value() || code == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+                Counter.builder(THROTTLED)
+                        .description("Upstream responses that asked us to back off")
+                        .tag("operation", operation)
+                        .tag("status", status)
+                        .register(meterRegistry)
+                        .increment();
+            }
+            return status;
+        }
+        return error instanceof ResourceAccessException ? IO_ERROR : ERROR;
+    }
+
+    private void stop(Timer.Sample sample, String operation, String status) {
+        sample.stop(Timer.builder(REQUESTS)
+                .description("Requests sent to the mock employee API")
+                .tag("operation", operation)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,41 @@
+package com.reliaquest.api.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the upstream connection pool usage at {@code /actuator/upstreampool} for sizing the pool under load.
+ */
+@Component
+@Endpoint(id = "upstreampool")
+public class UpstreamPoolEndpoint {
+    private final PoolingHttpClientConnectionManager upstreamConnectionManager;
+
+    public UpstreamPoolEndpoint(PoolingHttpClientConnectionManager upstreamConnectionManager) {
+        this.upstreamConnectionManager = upstreamConnectionManager;
+    }
+
+    @ReadOperation
+    public Map<String, Object> poolUsage() {
+        Map<String, PoolUsage> routes = new LinkedHashMap<>();
+        for (HttpRoute route : upstreamConnectionManager.getRoutes()) {
+            routes.put(route.getTargetHost().toURI(), PoolUsage.from(upstreamConnectionManager.getStats(route)));
+        }
+        Map<String, Object> usage = new LinkedHashMap<>();
+        usage.put("total", PoolUsage.from(upstreamConnectionManager.getTotalStats()));
+        usage.put("routes", routes);
+        return usage;
+    }
+
+    public record PoolUsage(int leased, int pending, int available, int max) {
+        static PoolUsage from(PoolStats stats) {
+            return new PoolUsage(stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax());
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.RequestBudgetExhaustedException;
+import com.reliaquest.api.exception.ServiceUnavailableException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Client-side model of the upstream's request limit, so that requests which would only earn a 429 are never sent.
+ *
+ * <p>The upstream admits a small budget of requests and then answers 429 for a cool-down window. Both are learned
+ * from what the upstream does:
+ *
+ * <ul>
+ *   <li>the budget grows additively, by about one request per window, while requests get through and is halved on
+ *       every 429;
+ *   <li>the cool-down is taken from {@code Retry-After} when the upstream sends it. Otherwise it grows by half when the
+ *       first request after a cool-down is throttled again, and shrinks by a tenth when that request gets through.
+ * </ul>
+ *
+ * Permits come from a token bucket holding up to {@code budget} tokens, refilled at {@code budget} per cool-down. A
+ * caller that finds the bucket empty is queued behind earlier callers and waits for its slot, unless that slot is more
+ * than {@code rate-limit.max-wait} away; then it fails fast with {@link RequestBudgetExhaustedException}. After a 429
+ * no permits are handed out until the cool-down is over, and then the bucket starts full again.
+ *
+ * <p>Only calls that actually go to the upstream pass through here, so reads answered from the cache are never
+ * throttled.
+ */
+@Component
+public class UpstreamRateLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamRateLimiter.class);
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final double COOL_DOWN_GROWTH = 1.5;
+    private static final double COOL_DOWN_SHRINK = 0.9;
+    private static final double MIN_BUDGET = 1;
+    private static final double MAX_BUDGET = 1000;
+
+    private final boolean enabled;
+    private final Duration minCoolDown;
+    private final Duration maxCoolDown;
+    private final long maxWaitMillis;
+    private final Clock clock;
+
+    private double budget;
+    private long coolDownMillis;
+    private double storedPermits;
+    private long nextFreeMillis;
+    private long blockedUntilMillis;
+    private boolean probing;
+
+    public UpstreamRateLimiter(
+            @Value("${rate-limit.enabled:true}") boolean enabled,
+            @Value("${rate-limit.initial-budget:5}") int initialBudget,
+            @Value("${rate-limit.initial-cool-down:30s}") Duration initialCoolDown,
+            @Value("${rate-limit.min-cool-down:1s}") Duration minCoolDown,
+            @Value("${rate-limit.max-cool-down:120s}") Duration maxCoolDown,
+            @Value("${rate-limit.max-wait:2s}") Duration maxWait,
+            Clock clock) {
+        this.enabled = enabled;
+        this.minCoolDown = minCoolDown;
+        this.maxCoolDown = maxCoolDown;
+        this.maxWaitMillis = maxWait.toMillis();
+        this.clock = clock;
+        this.budget = Math.max(MIN_BUDGET, initialBudget);
+        this.coolDownMillis = clamp(initialCoolDown.toMillis());
+        this.storedPermits = budget;
+        this.nextFreeMillis = clock.millis();
+    }
+
+    /**
+     * Waits for a permit, runs the call and learns from its outcome.
+     *
+     * @throws RequestBudgetExhaustedException if no permit is available within {@code rate-limit.max-wait}
+     */
+    public <T> T call(String operation, Supplier<T> call) {
+        if (!enabled) {
+            return call.get();
+        }
+        acquire(operation);
+        try {
+            T result = call.get();
+            onAdmitted();
+            return result;
+        } catch (RestClientResponseException e) {
+            onErrorResponse(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Like {@link #call}, but a caller that has to wait for its permit waits on a timer instead of holding its thread,
+     * and a local rejection is returned as a failed future.
+     */
+    public <T> CompletableFuture<T> callAsync(String operation, Supplier<CompletableFuture<T>> call) {
+        if (!enabled) {
+            return Futures.invoke(call);
+        }
+        long waitMillis = reserve();
+        if (waitMillis < 0) {
+            logger.warn("{} rejected locally, upstream request budget is exhausted", operation);
+            return CompletableFuture.failedFuture(
+                    new RequestBudgetExhaustedException("Upstream request budget exhausted, please retry later"));
+        }
+        CompletableFuture<T> response;
+        if (waitMillis > 0) {
+            logger.debug("{} queued for {} ms by the upstream rate limiter", operation, waitMillis);
+            Executor delayed = CompletableFuture.delayedExecutor(waitMillis, TimeUnit.MILLISECONDS);
+            response = CompletableFuture.runAsync(() -> {}, delayed).thenCompose(ignored -> call.get());
+        } else {
+            response = Futures.invoke(call);
+        }
+        return response.whenComplete((result, error) -> {
+            Throwable cause = Futures.unwrap(error);
+            if (cause == null) {
+                onAdmitted();
+            } else if (cause instanceof RestClientResponseException e) {
+                onErrorResponse(e);
+            }
+        });
+    }
+
+    public synchronized double budget() {
+        return budget;
+    }
+
+    public synchronized Duration coolDown() {
+        return Duration.ofMillis(coolDownMillis);
+    }
+
+    /**
+     * How long until the next permit could be handed out without waiting, for callers that prefer to come back later
+     * over being queued or rejected.
+     */
+    public synchronized Duration timeToNextPermit() {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+        long now = clock.millis();
+        double intervalMillis = coolDownMillis / budget;
+        double permits = now > nextFreeMillis
+                ? Math.min(budget, storedPermits + (now - nextFreeMillis) / intervalMillis)
+                : storedPermits;
+        long readyAt = Math.max(now, nextFreeMillis) + (long) Math.ceil((1 - Math.min(1, permits)) * intervalMillis);
+        return Duration.ofMillis(readyAt - now);
+    }
+
+    private void acquire(String operation) {
+        long waitMillis = reserve();
+        if (waitMillis < 0) {
+            logger.warn("{} rejected locally, upstream request budget is exhausted", operation);
+            throw new RequestBudgetExhaustedException("Upstream request budget exhausted, please retry later");
+        }
+        if (waitMillis > 0) {
+            logger.debug("{} queued for {} ms by the upstream rate limiter", operation, waitMillis);
+            try {
+                Thread.sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceUnavailableException("Interrupted while waiting for an upstream permit");
+            }
+        }
+    }
+
+    /**
+     * Reserves the next permit.
+     *
+     * @return how long the caller must wait before using it, or -1 if that is longer than the maximum wait and nothing
+     *     was reserved
+     */
+    synchronized long reserve() {
+        long now = clock.millis();
+        double intervalMillis = coolDownMillis / budget;
+        if (now > nextFreeMillis) {
+            storedPermits = Math.min(budget, storedPermits + (now - nextFreeMillis) / intervalMillis);
+            nextFreeMillis = now;
+        }
+        double fromBucket = Math.min(1, storedPermits);
+        long readyAt = nextFreeMillis + (long) Math.ceil((1 - fromBucket) * intervalMillis);
+        long waitMillis = readyAt - now;
+        if (waitMillis > maxWaitMillis) {
+            return -1;
+        }
+        storedPermits -= fromBucket;
+        nextFreeMillis = readyAt;
+        return waitMillis;
+    }
+
+    synchronized void onAdmitted() {
+        budget = Math.min(MAX_BUDGET, budget + 1 / budget);
+        if (probing) {
+            probing = false;
+            coolDownMillis = clamp((long) (coolDownMillis * COOL_DOWN_SHRINK));
+        }
+    }
+
+    synchronized void onThrottled(Optional<Duration> retryAfter) {
+        long now = clock.millis();
+        if (now < blockedUntilMillis) {
+            // a request admitted before the block started, it tells us nothing new
+            return;
+        }
+        budget = Math.max(MIN_BUDGET, budget * DECREASE_FACTOR);
+        if (retryAfter.isPresent()) {
+            coolDownMillis = clamp(retryAfter.get().toMillis());
+        } else if (probing) {
+            coolDownMillis = clamp((long) (coolDownMillis * COOL_DOWN_GROWTH));
+        }
+        blockedUntilMillis = now + coolDownMillis;
+        // the upstream starts counting afresh once the cool-down is over, so the bucket is full again at that point
+        storedPermits = budget;
+        nextFreeMillis = Math.max(nextFreeMillis, blockedUntilMillis);
+        probing = true;
+        logger.warn(
+                "Upstream throttled us, pausing for {} ms with a learned budget of {} requests",
+                coolDownMillis,
+                String.format("%.1f", budget));
+    }
+
+    private void onErrorResponse(RestClientResponseException e) {
+        if (e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            onThrottled(RetryAfter.parse(e.getResponseHeaders(), clock));
+        } else if (e.getStatusCode().is4xxClientError()) {
+            onAdmitted();
+        }
+    }
+
+    private long clamp(long coolDown) {
+        return Math.max(minCoolDown.toMillis(), Math.min(maxCoolDown.toMillis(), coolDown));
+    }
+}
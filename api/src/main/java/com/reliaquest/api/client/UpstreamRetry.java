@@ -0,0 +1,232 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Retries upstream calls that fail with 429 or 503, waiting for {@code Retry-After} when the upstream sends it and
+ * using randomized exponential backoff otherwise.
+ *
+ * <p>In {@link Mode#ASYNC} mode, the default, retries run on the task executor and the waits are timers on a single
+ * scheduler thread, so a pending retry holds no thread. A synchronous caller makes the first attempt itself and, if it
+ * is throttled, gets a 429 at once while the retry carries on in the background. In {@link Mode#BLOCKING} mode the
+ * calling thread sleeps between attempts until they succeed or run out.
+ */
+@Component
+public class UpstreamRetry {
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamRetry.class);
+    private static final double MULTIPLIER = 2;
+
+    public enum Mode {
+        BLOCKING,
+        ASYNC
+    }
+
+    private final Mode mode;
+    private final int maxAttempts;
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final Executor executor;
+    private final Clock clock;
+    private final UpstreamMetrics upstreamMetrics;
+    private final ScheduledExecutorService scheduler;
+
+    public UpstreamRetry(
+            @Value("${retry.mode:async}") Mode mode,
+            @Value("${retry.maxAttempts}") int maxAttempts,
+            @Value("${retry.delay}") long initialDelayMillis,
+            @Value("${retry.maxDelay:120000}") long maxDelayMillis,
+            @Qualifier("applicationTaskExecutor") Executor executor,
+            Clock clock,
+            UpstreamMetrics upstreamMetrics) {
+        this.mode = mode;
+        this.maxAttempts = maxAttempts;
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.executor = executor;
+        this.clock = clock;
+        this.upstreamMetrics = upstreamMetrics;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "upstream-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public <T> T execute(String operation, Supplier<T> call) {
+        return execute(operation, call, result -> {});
+    }
+
+    /**
+     * Like {@link #execute}, handing a successful result to {@code onResult} before it is returned. In
+     * {@link Mode#ASYNC} mode {@code onResult} is chained to the background retry, so it still runs when the retry
+     * succeeds after the caller has been answered with a 429.
+     */
+    public <T> T execute(String operation, Supplier<T> call, Consumer<? super T> onResult) {
+        if (mode == Mode.BLOCKING) {
+            T result = executeBlocking(operation, call);
+            onResult.accept(result);
+            return result;
+        }
+        T result;
+        try {
+            result = call.get();
+        } catch (RestClientResponseException e) {
+            if (!isRetryable(e) || maxAttempts <= 1) {
+                throw e;
+            }
+            CompletableFuture<T> retry = new CompletableFuture<>();
+            retryLater(operation, call, 1, e, retry);
+            retry.thenAccept(onResult);
+            throw new TooManyRequestsException("Upstream is throttling requests, please retry later");
+        }
+        onResult.accept(result);
+        return result;
+    }
+
+    /**
+     * Retries on the calling thread whatever the mode, for calls that must not outlive the caller, such as a read that
+     * writes into the caller's response while it arrives.
+     */
+    public <T> T executeBlocking(String operation, Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RestClientResponseException e) {
+                if (!isRetryable(e) || attempt >= maxAttempts) {
+                    throw e;
+                }
+                long delay = delayMillis(attempt, e);
+                logger.warn(
+                        "{} attempt {} failed with {}, retrying in {} ms", operation, attempt, e.getStatusCode(), delay);
+                upstreamMetrics.recordRetry(operation, e);
+                sleep(delay, e);
+            }
+        }
+    }
+
+    public <T> CompletableFuture<T> executeAsync(String operation, Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        submit(operation, call, 1, result);
+        return result;
+    }
+
+    /**
+     * Like {@link #executeAsync}, for calls that are asynchronous themselves. Each attempt is started on the thread
+     * that finished the previous one, or on the scheduler after a wait, so nothing is run on the task executor.
+     */
+    public <T> CompletableFuture<T> composeAsync(String operation, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        compose(operation, call, 1, result);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private <T> void submit(String operation, Supplier<T> call, int attempt, CompletableFuture<T> result) {
+        try {
+            executor.execute(() -> attempt(operation, call, attempt, result));
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private <T> void attempt(String operation, Supplier<T> call, int attempt, CompletableFuture<T> result) {
+        try {
+            result.complete(call.get());
+        } catch (RestClientResponseException e) {
+            if (!isRetryable(e) || attempt >= maxAttempts) {
+                result.completeExceptionally(e);
+                return;
+            }
+            retryLater(operation, call, attempt, e, result);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private <T> void retryLater(
+            String operation,
+            Supplier<T> call,
+            int attempt,
+            RestClientResponseException e,
+            CompletableFuture<T> result) {
+        long delay = delayMillis(attempt, e);
+        logger.warn(
+                "{} attempt {} failed with {}, rescheduling in {} ms", operation, attempt, e.getStatusCode(), delay);
+        upstreamMetrics.recordRetry(operation, e);
+        try {
+            scheduler.schedule(() -> submit(operation, call, attempt + 1, result), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException rejected) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private <T> void compose(
+            String operation, Supplier<CompletableFuture<T>> call, int attempt, CompletableFuture<T> result) {
+        Futures.invoke(call).whenComplete((value, error) -> {
+            Throwable cause = Futures.unwrap(error);
+            if (cause == null) {
+                result.complete(value);
+                return;
+            }
+            if (!(cause instanceof RestClientResponseException e) || !isRetryable(e) || attempt >= maxAttempts) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            long delay = delayMillis(attempt, e);
+            logger.warn(
+                    "{} attempt {} failed with {}, rescheduling in {} ms", operation, attempt, e.getStatusCode(), delay);
+            upstreamMetrics.recordRetry(operation, e);
+            try {
+                scheduler.schedule(() -> compose(operation, call, attempt + 1, result), delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException rejected) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    static boolean isRetryable(RestClientResponseException e) {
+        int status = e.getStatusCode().value();
+        return status == HttpStatus.TOO_MANY_REQUESTS.value() || status == HttpStatus.SERVICE_UNAVAILABLE.value();
+    }
+
+    long delayMillis(int attempt, RestClientResponseException e) {
+        return RetryAfter.parse(e.getResponseHeaders(), clock)
+                .map(retryAfter -> Math.min(retryAfter.toMillis(), maxDelayMillis))
+                .orElseGet(() -> {
+                    double backoff = initialDelayMillis * Math.pow(MULTIPLIER, attempt - 1);
+                    double jittered = backoff * (1 + ThreadLocalRandom.current().nextDouble() * (MULTIPLIER - 1));
+                    return (long) Math.min(jittered, maxDelayMillis);
+                });
+    }
+
+    private static void sleep(long delayMillis, RestClientResponseException cause) {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+
+/**
+ * The full roster as read from the upstream, with the roster version it was served under (its {@code ETag}), or
+ * {@code null} when the upstream sent none; paged reads never carry one.
+ */
+public record VersionedRoster(List<Employee> employees, String version) {}
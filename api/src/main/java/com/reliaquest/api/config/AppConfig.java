@@ -1,15 +1,36 @@
 package com.reliaquest.api.config;
 
+import com.reliaquest.api.trace.TraceIdPropagation;
+import com.reliaquest.api.trace.TracingJacksonConverter;
+import java.time.Clock;
+import java.util.List;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
-@EnableRetry
 public class AppConfig {
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(ClientHttpRequestFactory upstreamRequestFactory) {
+        RestTemplate restTemplate = new RestTemplate(upstreamRequestFactory);
+        List<HttpMessageConverter<?>> converters = restTemplate.getMessageConverters();
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jackson) {
+                converters.set(
+                        i,
+                        new TracingJacksonConverter(
+                                jackson.getObjectMapper(), "upstream.deserialize", "upstream.serialize"));
+            }
+        }
+        restTemplate.getInterceptors().add(new TraceIdPropagation());
+        return restTemplate;
+    }
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
     }
 }
@@ -0,0 +1,44 @@
+package com.reliaquest.api.config;
+
+import com.reliaquest.api.trace.SlowTraceLog;
+import com.reliaquest.api.trace.TraceFilter;
+import com.reliaquest.api.trace.TracingJacksonConverter;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * In-process request tracing: every request is traced, and the ones slower than {@code tracing.slow-threshold} are
+ * kept in a {@link SlowTraceLog} of {@code tracing.slow-buffer-size} entries.
+ */
+@Configuration
+public class TracingConfig implements WebMvcConfigurer {
+
+    @Bean
+    public SlowTraceLog slowTraceLog(
+            @Value("${tracing.slow-threshold:250ms}") Duration slowThreshold,
+            @Value("${tracing.slow-buffer-size:100}") int slowBufferSize) {
+        return new SlowTraceLog(slowThreshold, slowBufferSize);
+    }
+
+    @Bean
+    public FilterRegistrationBean<TraceFilter> traceFilter(SlowTraceLog slowTraceLog) {
+        FilterRegistrationBean<TraceFilter> registration = new FilterRegistrationBean<>(new TraceFilter(slowTraceLog));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter jackson
+                ? new TracingJacksonConverter(jackson.getObjectMapper(), "request.deserialize", "response.serialize")
+                : converter);
+    }
+}
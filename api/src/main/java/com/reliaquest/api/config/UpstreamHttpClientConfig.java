@@ -0,0 +1,85 @@
+package com.reliaquest.api.config;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * Pooled HTTP/1.1 client for the mock employee API. Connections are kept alive and reused across requests, idle ones
+ * are evicted before the server would close them, and responses are requested gzip-compressed (HttpClient adds
+ * {@code Accept-Encoding} and decompresses transparently).
+ */
+@Configuration
+public class UpstreamHttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager upstreamConnectionManager(
+            @Value("${mock.api.http.max-total:50}") int maxTotal,
+            @Value("${mock.api.http.max-per-route:50}") int maxPerRoute,
+            @Value("${mock.api.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${mock.api.http.read-timeout:30s}") Duration readTimeout) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient upstreamHttpClient(
+            PoolingHttpClientConnectionManager upstreamConnectionManager,
+            @Value("${mock.api.http.read-timeout:30s}") Duration readTimeout,
+            @Value("${mock.api.http.pool-timeout:5s}") Duration poolTimeout,
+            @Value("${mock.api.http.idle-timeout:30s}") Duration idleTimeout,
+            @Value("${mock.api.http.keep-alive:15s}") Duration keepAlive) {
+        return HttpClients.custom()
+                .setConnectionManager(upstreamConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeout.toMillis()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAlive.toMillis()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis()))
+                .build();
+    }
+
+    /**
+     * Non-blocking JDK client behind the {@code AsyncEmployeeApiClient}. Its selector thread multiplexes every open
+     * connection, and completed responses are handed to the application task executor, which Spring shuts down with
+     * the context.
+     */
+    @Bean
+    public HttpClient upstreamAsyncHttpClient(
+            @Value("${mock.api.http.connect-timeout:2s}") Duration connectTimeout,
+            @Qualifier("applicationTaskExecutor") Executor executor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(connectTimeout)
+                .executor(executor)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory upstreamRequestFactory(CloseableHttpClient upstreamHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(upstreamHttpClient);
+    }
+}
@@ -0,0 +1,94 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.AsyncEmployeeService;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The {@link EmployeeController} endpoints under {@code /api/v1/employees/async}, with the same validation and answers,
+ * served from the {@link AsyncEmployeeService}. Handlers return the service's future as an MVC async result, so the
+ * request thread goes back to the pool as soon as the call is started and the response is written when the future
+ * completes. A request still unanswered after the servlet container's async timeout gets a 503.
+ */
+@RestController
+@RequestMapping("/api/v1/employees/async")
+public class AsyncEmployeeController {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEmployeeController.class);
+    private final AsyncEmployeeService asyncEmployeeService;
+
+    public AsyncEmployeeController(AsyncEmployeeService asyncEmployeeService) {
+        this.asyncEmployeeService = asyncEmployeeService;
+    }
+
+    @GetMapping
+    public CompletableFuture<ResponseEntity<List<Employee>>> getAllEmployees() {
+        logger.info("Received async request to get all employees");
+        return asyncEmployeeService.getAllEmployees().thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/search/{searchString}")
+    public CompletableFuture<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(
+            @PathVariable String searchString) {
+        logger.info("Received async request to search employees by name with string: {}", searchString);
+        SearchStrings.check(searchString);
+        return asyncEmployeeService.getEmployeesByNameSearch(searchString).thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        logger.info("Received async request to get employee by id: {}", id);
+        EmployeeIds.check(id);
+        return asyncEmployeeService.getEmployeeById(id).thenApply(employee -> {
+            if (employee != null) {
+                return ResponseEntity.ok(employee);
+            }
+            logger.warn("Employee with id {} not found", id);
+            return ResponseEntity.notFound().build();
+        });
+    }
+
+    @GetMapping("/highestSalary")
+    public CompletableFuture<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        logger.info("Received async request to get highest salary of employees");
+        return asyncEmployeeService.getHighestSalaryOfEmployees().thenApply(ResponseEntity::ok);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public CompletableFuture<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        logger.info("Received async request to get top ten highest earning employee names");
+        return asyncEmployeeService.getTopTenHighestEarningEmployeeNames().thenApply(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<Employee>> createEmployee(
+            @Valid @RequestBody EmployeeInput employeeInput) {
+        logger.info("Received async request to create employee: {}", employeeInput);
+        return asyncEmployeeService.createEmployee(employeeInput).thenApply(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public CompletableFuture<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        logger.info("Received async request to delete employee by id: {}", id);
+        EmployeeIds.check(id);
+        return asyncEmployeeService.deleteEmployeeById(id).thenApply(deletedEmployeeName -> {
+            if (deletedEmployeeName != null) {
+                return ResponseEntity.ok(deletedEmployeeName);
+            }
+            logger.warn("Could not delete employee with id {}, as it was not found", id);
+            return ResponseEntity.notFound().build();
+        });
+    }
+}
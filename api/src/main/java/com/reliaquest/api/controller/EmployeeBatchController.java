@@ -0,0 +1,58 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.exception.BadRequestException;
+import com.reliaquest.api.model.BatchResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.service.EmployeeBatchService;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Batch variants of create and delete. The whole batch is rejected only when it is empty or larger than
+ * {@code batch.max-size}; otherwise the answer is 200 with a result per item, written once the last item completes
+ * without holding the request thread in the meantime.
+ */
+@RestController
+@RequestMapping("/api/v1/employees/batch")
+public class EmployeeBatchController {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeBatchController.class);
+    private final EmployeeBatchService employeeBatchService;
+    private final int maxSize;
+
+    public EmployeeBatchController(
+            EmployeeBatchService employeeBatchService, @Value("${batch.max-size:1000}") int maxSize) {
+        this.employeeBatchService = employeeBatchService;
+        this.maxSize = maxSize;
+    }
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<BatchResult<Employee>>> createEmployees(
+            @RequestBody List<EmployeeInput> employeeInputs) {
+        logger.info("Received request to create {} employees", employeeInputs.size());
+        checkSize(employeeInputs);
+        return employeeBatchService.createEmployees(employeeInputs).thenApply(ResponseEntity::ok);
+    }
+
+    @DeleteMapping
+    public CompletableFuture<ResponseEntity<BatchResult<String>>> deleteEmployees(@RequestBody List<String> ids) {
+        logger.info("Received request to delete {} employees", ids.size());
+        checkSize(ids);
+        return employeeBatchService.deleteEmployees(ids).thenApply(ResponseEntity::ok);
+    }
+
+    private void checkSize(List<?> batch) {
+        if (batch.isEmpty() || batch.size() > maxSize) {
+            throw new BadRequestException("Batch size must be between 1 and " + maxSize);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.exception.BadRequestException;
+import java.util.regex.Pattern;
+
+/**
+ * The one check for employee ids taken from callers, shared by the single, async, batch and lookup endpoints so that
+ * they accept and reject the same ids with the same message.
+ */
+public final class EmployeeIds {
+    public static final String INVALID_MESSAGE = "Invalid UUID format";
+    private static final Pattern UUID =
+            Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+    private EmployeeIds() {}
+
+    public static boolean isValid(String id) {
+        return id != null && UUID.matcher(id).matches();
+    }
+
+    /**
+     * @throws BadRequestException if the id is not a UUID
+     */
+    public static void check(String id) {
+        if (!isValid(id)) {
+            throw new BadRequestException(INVALID_MESSAGE);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.api.exception.BadRequestException;
+import com.reliaquest.api.model.BatchItemResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeLookupService;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+/**
+ * Multi-get by id. The request body is a list of ids; the answer is {@code application/x-ndjson} with one
+ * {@link BatchItemResult} per id, written as each result is known rather than in request order. The whole request is
+ * rejected only when the list is empty or larger than {@code lookup.max-size}.
+ *
+ * <p>Once the client is gone, or after {@code lookup.timeout}, no further ids are fetched.
+ */
+@RestController
+@RequestMapping("/api/v1/employees/lookup")
+public class EmployeeLookupController {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeLookupController.class);
+    private static final MediaType NDJSON_UTF8 = new MediaType(MediaType.APPLICATION_NDJSON, StandardCharsets.UTF_8);
+    private final EmployeeLookupService employeeLookupService;
+    private final ObjectWriter resultWriter;
+    private final int maxSize;
+    private final Duration timeout;
+
+    public EmployeeLookupController(
+            EmployeeLookupService employeeLookupService,
+            ObjectMapper objectMapper,
+            @Value("${lookup.max-size:1000}") int maxSize,
+            @Value("${lookup.timeout:2m}") Duration timeout) {
+        this.employeeLookupService = employeeLookupService;
+        this.resultWriter = objectMapper.writerFor(BatchItemResult.class);
+        this.maxSize = maxSize;
+        this.timeout = timeout;
+    }
+
+    @PostMapping
+    public ResponseEntity<ResponseBodyEmitter> lookupEmployees(@RequestBody List<String> ids) {
+        logger.info("Received request to look up {} employees", ids.size());
+        if (ids.isEmpty() || ids.size() > maxSize) {
+            throw new BadRequestException("Number of ids must be between 1 and " + maxSize);
+        }
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeout.toMillis());
+        employeeLookupService
+                .lookupEmployees(ids, result -> send(emitter, result))
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        logger.error("Lookup of {} employees failed", ids.size(), error);
+                        emitter.completeWithError(error);
+                    } else {
+                        emitter.complete();
+                    }
+                });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+    }
+
+    /**
+     * @return whether the client is still there to take more results
+     */
+    private boolean send(ResponseBodyEmitter emitter, BatchItemResult<Employee> result) {
+        try {
+            emitter.send(resultWriter.writeValueAsString(result) + "\n", NDJSON_UTF8);
+            return true;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write lookup result " + result.index(), e);
+        } catch (IOException | IllegalStateException e) {
+            logger.info("Lookup client went away, stopping: {}", e.getMessage());
+            return false;
+        }
+    }
+}
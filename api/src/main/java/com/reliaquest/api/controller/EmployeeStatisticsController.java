@@ -0,0 +1,55 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.exception.BadRequestException;
+import com.reliaquest.api.index.RosterColumn;
+import com.reliaquest.api.model.ColumnHistogram;
+import com.reliaquest.api.model.ColumnStatistics;
+import com.reliaquest.api.service.EmployeeStatisticsService;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/employees/statistics")
+public class EmployeeStatisticsController {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeStatisticsController.class);
+    private static final int MAX_BUCKETS = 1000;
+    private final EmployeeStatisticsService employeeStatisticsService;
+
+    public EmployeeStatisticsController(EmployeeStatisticsService employeeStatisticsService) {
+        this.employeeStatisticsService = employeeStatisticsService;
+    }
+
+    @GetMapping("/{column}")
+    public ResponseEntity<ColumnStatistics> getStatistics(@PathVariable String column) {
+        logger.info("Received request to get {} statistics", column);
+        return ResponseEntity.ok(employeeStatisticsService.getStatistics(parseColumn(column)));
+    }
+
+    @GetMapping("/{column}/histogram")
+    public ResponseEntity<ColumnHistogram> getHistogram(
+            @PathVariable String column, @RequestParam(defaultValue = "10") int buckets) {
+        logger.info("Received request to get {} histogram with {} buckets", column, buckets);
+        if (buckets < 1 || buckets > MAX_BUCKETS) {
+            throw new BadRequestException("Buckets must be between 1 and " + MAX_BUCKETS);
+        }
+        return ResponseEntity.ok(employeeStatisticsService.getHistogram(parseColumn(column), buckets));
+    }
+
+    @GetMapping("/{column}/by-title")
+    public ResponseEntity<Map<String, ColumnStatistics>> getStatisticsByTitle(@PathVariable String column) {
+        logger.info("Received request to get {} statistics by title", column);
+        return ResponseEntity.ok(employeeStatisticsService.getStatisticsByTitle(parseColumn(column)));
+    }
+
+    private static RosterColumn parseColumn(String column) {
+        return RosterColumn.parse(column)
+                .orElseThrow(() -> new BadRequestException("Unknown column: " + column + ", expected salary or age"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeStreamService;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * {@code application/x-ndjson} representation of the employee list, one employee per line. Only requests that ask for
+ * it explicitly are routed here; clients that accept JSON or anything at all keep getting the buffered list from
+ * {@link EmployeeController}.
+ *
+ * <p>Records are written as they are read, on an MVC async thread. The first record is flushed right away for a short
+ * time to first byte, later ones in batches. A slow client blocks the writes and, through them, the upstream read.
+ *
+ * <p>Requests for the search, highest salary or top earners sent with {@code Cache-Control: no-cache} are also routed
+ * here. They are answered in one pass over the upstream response, holding only the answer, instead of from the roster
+ * cache's indexes.
+ */
+@RestController
+@RequestMapping("/api/v1/employees")
+public class EmployeeStreamController {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeStreamController.class);
+    private static final int FLUSH_EVERY = 256;
+    private static final int TOP_EARNERS_LIMIT = 10;
+    private static final String NO_CACHE = "Cache-Control=no-cache";
+    private final EmployeeStreamService employeeStreamService;
+    private final JsonFactory jsonFactory;
+    private final ObjectWriter employeeWriter;
+
+    public EmployeeStreamController(EmployeeStreamService employeeStreamService, ObjectMapper objectMapper) {
+        this.employeeStreamService = employeeStreamService;
+        this.jsonFactory = objectMapper.getFactory();
+        this.employeeWriter =
+                objectMapper.writerFor(Employee.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        logger.info("Received request to stream all employees");
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = jsonFactory.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                int[] written = {0};
+                employeeStreamService.streamAllEmployees(employee -> {
+                    writeLine(generator, employee, ++written[0]);
+                    return true;
+                });
+                logger.info("Streamed {} employees", written[0]);
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping(value = "/search/{searchString}", headers = NO_CACHE)
+    public ResponseEntity<List<Employee>> searchEmployeesUncached(@PathVariable String searchString) {
+        logger.info("Received uncached request to search employees by name with string: {}", searchString);
+        SearchStrings.check(searchString);
+        return ResponseEntity.ok(employeeStreamService.searchUpstream(searchString));
+    }
+
+    @GetMapping(value = "/highestSalary", headers = NO_CACHE)
+    public ResponseEntity<Integer> getHighestSalaryUncached() {
+        logger.info("Received uncached request to get highest salary of employees");
+        return ResponseEntity.ok(employeeStreamService.highestSalaryUpstream());
+    }
+
+    @GetMapping(value = "/topTenHighestEarningEmployeeNames", headers = NO_CACHE)
+    public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNamesUncached() {
+        logger.info("Received uncached request to get top ten highest earning employee names");
+        return ResponseEntity.ok(employeeStreamService.topEarnerNamesUpstream(TOP_EARNERS_LIMIT));
+    }
+
+    private void writeLine(JsonGenerator generator, Employee employee, int line) {
+        try {
+            employeeWriter.writeValue(generator, employee);
+            generator.writeRaw('\n');
+            if (line == 1 || line % FLUSH_EVERY == 0) {
+                generator.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
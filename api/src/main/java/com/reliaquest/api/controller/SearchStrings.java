@@ -0,0 +1,21 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.exception.BadRequestException;
+
+/**
+ * The one check for name search strings taken from callers, shared by the cached, async and uncached search endpoints.
+ */
+public final class SearchStrings {
+    public static final String EMPTY_MESSAGE = "Search string cannot be empty";
+
+    private SearchStrings() {}
+
+    /**
+     * @throws BadRequestException if the search string is missing or blank
+     */
+    public static void check(String searchString) {
+        if (searchString == null || searchString.isBlank()) {
+            throw new BadRequestException(EMPTY_MESSAGE);
+        }
+    }
+}
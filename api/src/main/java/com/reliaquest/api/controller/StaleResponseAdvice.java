@@ -0,0 +1,43 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.cache.Staleness;
+import java.time.Duration;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks answers served from an expired roster snapshot, typically while the upstream circuit is open, with
+ * {@code Age} (seconds since the roster was read from the upstream) and {@code Warning: 110}.
+ */
+@ControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+    static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(Staleness.AGE_ATTRIBUTE) instanceof Duration age) {
+            response.getHeaders().set(HttpHeaders.AGE, String.valueOf(age.toSeconds()));
+            response.getHeaders().set("Warning", STALE_WARNING);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class CircuitOpenException extends ServiceUnavailableException {
+
+    public CircuitOpenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.reliaquest.api.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown by the upstream rate limiter before anything is sent, so the call can safely be tried again later.
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class RequestBudgetExhaustedException extends TooManyRequestsException {
+
+    public RequestBudgetExhaustedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,252 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterListener;
+import com.reliaquest.api.model.ColumnHistogram;
+import com.reliaquest.api.model.ColumnStatistics;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * Column-oriented copy of the roster for aggregate queries: salary and age as {@code int[]}, title as a
+ * dictionary-encoded {@code int[]}. Aggregates run as plain loops over primitive arrays, with no per-row boxing or
+ * pointer chasing.
+ *
+ * <p>Whole-column summaries read a sorted copy of the present values, cached until the next change. Min and max are
+ * its ends, percentiles are direct lookups, and the sum is a branch-free loop the JIT can vectorize. Per-title
+ * summaries group values with a counting sort on the title code. A missing value is stored as {@link #MISSING}.
+ * Deletes move the last row into the freed slot, so row order is not roster order.
+ */
+@Component
+public class ColumnarRoster implements RosterListener {
+    static final int MISSING = Integer.MIN_VALUE;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int[] salaries = new int[0];
+    private int[] ages = new int[0];
+    private int[] titleCodes = new int[0];
+    private String[] ids = new String[0];
+    private int rowCount;
+    private final Map<String, Integer> rowsById = new HashMap<>();
+    private final List<String> titles = new ArrayList<>();
+    private final Map<String, Integer> titleCodesByTitle = new HashMap<>();
+    private final Map<RosterColumn, int[]> sortedColumns = new HashMap<>();
+
+    public ColumnStatistics statistics(RosterColumn column) {
+        int[] sorted = sortedColumn(column);
+        return statistics(sorted, 0, sorted.length);
+    }
+
+    public ColumnHistogram histogram(RosterColumn column, int buckets) {
+        int[] sorted = sortedColumn(column);
+        if (sorted.length == 0) {
+            return new ColumnHistogram(0, 0, 0, new int[0]);
+        }
+        int min = sorted[0];
+        int max = sorted[sorted.length - 1];
+        int width = Math.max(1, (int) Math.ceil(((long) max - min + 1) / (double) buckets));
+        int[] counts = new int[buckets];
+        for (int value : sorted) {
+            counts[Math.min(buckets - 1, (value - min) / width)]++;
+        }
+        return new ColumnHistogram(min, max, width, counts);
+    }
+
+    public Map<String, ColumnStatistics> statisticsByTitle(RosterColumn column) {
+        lock.readLock().lock();
+        try {
+            int[] values = column(column);
+            int titleCount = titles.size();
+            int[] offsets = new int[titleCount + 1];
+            for (int row = 0; row < rowCount; row++) {
+                if (values[row] != MISSING && titleCodes[row] != MISSING) {
+                    offsets[titleCodes[row] + 1]++;
+                }
+            }
+            for (int code = 0; code < titleCount; code++) {
+                offsets[code + 1] += offsets[code];
+            }
+            int[] grouped = new int[offsets[titleCount]];
+            int[] cursor = Arrays.copyOf(offsets, titleCount);
+            for (int row = 0; row < rowCount; row++) {
+                if (values[row] != MISSING && titleCodes[row] != MISSING) {
+                    grouped[cursor[titleCodes[row]]++] = values[row];
+                }
+            }
+
+            Map<String, ColumnStatistics> byTitle = new LinkedHashMap<>();
+            for (int code = 0; code < titleCount; code++) {
+                if (offsets[code + 1] > offsets[code]) {
+                    Arrays.sort(grouped, offsets[code], offsets[code + 1]);
+                    byTitle.put(titles.get(code), statistics(grouped, offsets[code], offsets[code + 1]));
+                }
+            }
+            return byTitle;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rowCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onReplace(List<Employee> employees) {
+        lock.writeLock().lock();
+        try {
+            int capacity = Math.max(16, employees.size());
+            salaries = new int[capacity];
+            ages = new int[capacity];
+            titleCodes = new int[capacity];
+            ids = new String[capacity];
+            rowCount = 0;
+            rowsById.clear();
+            titles.clear();
+            titleCodesByTitle.clear();
+            employees.forEach(this::append);
+            sortedColumns.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onPut(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            remove(employee.getId());
+            append(employee);
+            sortedColumns.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onEvict(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            remove(employee.getId());
+            sortedColumns.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int[] sortedColumn(RosterColumn column) {
+        lock.readLock().lock();
+        try {
+            int[] cached = sortedColumns.get(column);
+            if (cached != null) {
+                return cached;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            return sortedColumns.computeIfAbsent(column, this::sortPresentValues);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int[] sortPresentValues(RosterColumn column) {
+        int[] values = column(column);
+        int[] present = new int[rowCount];
+        int count = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (values[row] != MISSING) {
+                present[count++] = values[row];
+            }
+        }
+        int[] sorted = Arrays.copyOf(present, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private int[] column(RosterColumn column) {
+        return column == RosterColumn.SALARY ? salaries : ages;
+    }
+
+    private void append(Employee employee) {
+        if (rowCount == salaries.length) {
+            int capacity = rowCount * 2;
+            salaries = Arrays.copyOf(salaries, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            titleCodes = Arrays.copyOf(titleCodes, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+        }
+        int row = rowCount++;
+        salaries[row] = employee.getSalary() == null ? MISSING : employee.getSalary();
+        ages[row] = employee.getAge() == null ? MISSING : employee.getAge();
+        titleCodes[row] = employee.getTitle() == null ? MISSING : encodeTitle(employee.getTitle());
+        ids[row] = employee.getId();
+        if (employee.getId() != null) {
+            rowsById.put(employee.getId(), row);
+        }
+    }
+
+    private void remove(String id) {
+        Integer row = id == null ? null : rowsById.remove(id);
+        if (row == null) {
+            return;
+        }
+        int last = --rowCount;
+        if (row != last) {
+            salaries[row] = salaries[last];
+            ages[row] = ages[last];
+            titleCodes[row] = titleCodes[last];
+            ids[row] = ids[last];
+            if (ids[row] != null) {
+                rowsById.put(ids[row], row);
+            }
+        }
+        ids[last] = null;
+    }
+
+    private int encodeTitle(String title) {
+        return titleCodesByTitle.computeIfAbsent(title, added -> {
+            titles.add(added);
+            return titles.size() - 1;
+        });
+    }
+
+    private static ColumnStatistics statistics(int[] sorted, int from, int to) {
+        int count = to - from;
+        if (count == 0) {
+            return ColumnStatistics.EMPTY;
+        }
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += sorted[i];
+        }
+        return new ColumnStatistics(
+                count,
+                sorted[from],
+                sorted[to - 1],
+                (double) sum / count,
+                percentile(sorted, from, count, 0.50),
+                percentile(sorted, from, count, 0.90),
+                percentile(sorted, from, count, 0.99));
+    }
+
+    private static int percentile(int[] sorted, int from, int count, double percentile) {
+        int rank = (int) Math.ceil(percentile * count);
+        return sorted[from + Math.max(0, rank - 1)];
+    }
+}
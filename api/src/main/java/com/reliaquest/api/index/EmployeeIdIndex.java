@@ -0,0 +1,101 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterListener;
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Id to name map, so a delete can go straight to the upstream's delete-by-name without looking the employee up first.
+ *
+ * <p>It follows the roster cache. A full roster read swaps in new maps, so lookups never see half-built ones. The
+ * upstream deletes the earliest-added employee of a name, ignoring case, so a name is only handed out while no other
+ * cached employee shares it. An entry can still outlive its employee when it is deleted behind our back. With the name
+ * unique in the cache the upstream then answers the delete with 404, unless another employee of that name was also
+ * added behind our back and is not cached yet, in which case that employee is the one deleted.
+ */
+@Component
+public class EmployeeIdIndex implements RosterListener {
+    private volatile Names names = new Names(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+
+    /**
+     * @return the employee's name, unless the id is not cached or its name is shared with another cached employee
+     */
+    public Optional<String> nameOf(String id) {
+        Names current = names;
+        String name = current.byId().get(id);
+        if (name == null || current.counts().getOrDefault(fold(name), 0) != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(name);
+    }
+
+    /**
+     * @return whether a cached employee other than {@code id} carries {@code name}, ignoring case
+     */
+    public boolean sharesName(String id, String name) {
+        Names current = names;
+        String own = current.byId().get(id);
+        int others = current.counts().getOrDefault(fold(name), 0);
+        if (own != null && fold(own).equals(fold(name))) {
+            others--;
+        }
+        return others > 0;
+    }
+
+    public void forget(String id) {
+        names.remove(id);
+    }
+
+    @Override
+    public void onReplace(List<Employee> employees) {
+        Names rebuilt = new Names(
+                new ConcurrentHashMap<>(employees.size() * 4 / 3 + 1),
+                new ConcurrentHashMap<>(employees.size() * 4 / 3 + 1));
+        employees.forEach(rebuilt::put);
+        names = rebuilt;
+    }
+
+    @Override
+    public void onPut(Employee employee) {
+        names.put(employee);
+    }
+
+    @Override
+    public void onEvict(Employee employee) {
+        if (employee.getId() != null) {
+            names.remove(employee.getId());
+        }
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Names by id and how many ids carry each folded name. Writes are serialized; a read racing one may miss the name
+     * and fall back to a lookup.
+     */
+    private record Names(Map<String, String> byId, Map<String, Integer> counts) {
+
+        synchronized void put(Employee employee) {
+            if (employee.getId() == null || employee.getName() == null) {
+                return;
+            }
+            remove(employee.getId());
+            byId.put(employee.getId(), employee.getName());
+            counts.merge(fold(employee.getName()), 1, Integer::sum);
+        }
+
+        synchronized void remove(String id) {
+            String name = byId.remove(id);
+            if (name != null) {
+                counts.computeIfPresent(fold(name), (ignored, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+    }
+}
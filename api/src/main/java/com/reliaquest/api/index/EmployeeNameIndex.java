@@ -0,0 +1,230 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterListener;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * Case-folded trigram index over employee names, answering the same "lowercased name contains lowercased term"
+ * question as a linear scan, in roster order.
+ *
+ * <p>Every employee gets a row number in roster order. Each trigram of a folded name maps to the sorted row numbers
+ * of the names containing it. A search intersects the posting lists of the query's trigrams, starting from the
+ * shortest, and confirms each candidate with {@code contains} on the pre-folded name. Queries shorter than a trigram
+ * fall back to a scan of the pre-folded names. Removed rows are left as holes; once they make up half of the rows,
+ * the live rows are renumbered in place, so rows and postings stay proportional to the roster even when it is only
+ * ever changed one employee at a time.
+ */
+@Component
+public class EmployeeNameIndex implements RosterListener {
+    private static final int GRAM = 3;
+    private static final int MIN_COMPACT_HOLES = 16;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Employee[] rows = new Employee[0];
+    private String[] foldedNames = new String[0];
+    private int rowCount;
+    private int holes;
+    private final Map<String, Integer> rowsById = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    public List<Employee> search(String searchString) {
+        String term = searchString.toLowerCase();
+        lock.readLock().lock();
+        try {
+            if (term.length() < GRAM) {
+                return scan(term);
+            }
+
+            Postings[] lists = new Postings[term.length() - GRAM + 1];
+            int shortest = 0;
+            for (int i = 0; i < lists.length; i++) {
+                Postings list = postings.get(trigram(term, i));
+                if (list == null) {
+                    return List.of();
+                }
+                lists[i] = list;
+                if (list.size < lists[shortest].size) {
+                    shortest = i;
+                }
+            }
+
+            List<Employee> matches = new ArrayList<>();
+            Postings candidates = lists[shortest];
+            for (int i = 0; i < candidates.size; i++) {
+                int row = candidates.rows[i];
+                if (containsInAll(lists, shortest, row) && foldedNames[row].contains(term)) {
+                    matches.add(rows[row]);
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onReplace(List<Employee> employees) {
+        lock.writeLock().lock();
+        try {
+            rebuild(employees);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onPut(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            remove(employee.getId());
+            append(employee);
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onEvict(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            remove(employee.getId());
+            compactIfSparse();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int rowCount() {
+        lock.readLock().lock();
+        try {
+            return rowCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void rebuild(List<Employee> employees) {
+        rows = new Employee[Math.max(16, employees.size())];
+        foldedNames = new String[rows.length];
+        rowCount = 0;
+        holes = 0;
+        rowsById.clear();
+        postings.clear();
+        employees.forEach(this::append);
+    }
+
+    private void compactIfSparse() {
+        if (holes < MIN_COMPACT_HOLES || holes * 2 < rowCount) {
+            return;
+        }
+        List<Employee> live = new ArrayList<>(rowCount - holes);
+        for (int row = 0; row < rowCount; row++) {
+            if (rows[row] != null) {
+                live.add(rows[row]);
+            }
+        }
+        rebuild(live);
+    }
+
+    private List<Employee> scan(String term) {
+        List<Employee> matches = new ArrayList<>();
+        for (int row = 0; row < rowCount; row++) {
+            if (foldedNames[row] != null && foldedNames[row].contains(term)) {
+                matches.add(rows[row]);
+            }
+        }
+        return matches;
+    }
+
+    private void append(Employee employee) {
+        if (rowCount == rows.length) {
+            rows = Arrays.copyOf(rows, rowCount * 2);
+            foldedNames = Arrays.copyOf(foldedNames, rowCount * 2);
+        }
+        int row = rowCount++;
+        rows[row] = employee;
+        if (employee.getId() != null) {
+            rowsById.put(employee.getId(), row);
+        }
+        if (employee.getName() == null) {
+            return;
+        }
+        String folded = employee.getName().toLowerCase();
+        foldedNames[row] = folded;
+        for (int i = 0; i + GRAM <= folded.length(); i++) {
+            postings.computeIfAbsent(trigram(folded, i), ignored -> new Postings()).append(row);
+        }
+    }
+
+    private void remove(String id) {
+        Integer row = id == null ? null : rowsById.remove(id);
+        if (row == null) {
+            return;
+        }
+        String folded = foldedNames[row];
+        if (folded != null) {
+            for (int i = 0; i + GRAM <= folded.length(); i++) {
+                Long key = trigram(folded, i);
+                Postings list = postings.get(key);
+                if (list != null && list.remove(row) && list.size == 0) {
+                    postings.remove(key);
+                }
+            }
+        }
+        rows[row] = null;
+        foldedNames[row] = null;
+        holes++;
+    }
+
+    private static boolean containsInAll(Postings[] lists, int skip, int row) {
+        for (int i = 0; i < lists.length; i++) {
+            if (i != skip && Arrays.binarySearch(lists[i].rows, 0, lists[i].size, row) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long trigram(String folded, int offset) {
+        return ((long) folded.charAt(offset) << 32)
+                | ((long) folded.charAt(offset + 1) << 16)
+                | folded.charAt(offset + 2);
+    }
+
+    /**
+     * Sorted, growable list of row numbers. Rows are appended in increasing order, so appends keep it sorted.
+     */
+    private static final class Postings {
+        private int[] rows = new int[4];
+        private int size;
+
+        void append(int row) {
+            if (size > 0 && rows[size - 1] == row) {
+                return;
+            }
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        boolean remove(int row) {
+            int index = Arrays.binarySearch(rows, 0, size, row);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(rows, index + 1, rows, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+}
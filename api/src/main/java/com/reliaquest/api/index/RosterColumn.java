@@ -0,0 +1,21 @@
+package com.reliaquest.api.index;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Numeric employee attributes held by {@link ColumnarRoster}.
+ */
+public enum RosterColumn {
+    SALARY,
+    AGE;
+
+    public static Optional<RosterColumn> parse(String name) {
+        for (RosterColumn column : values()) {
+            if (column.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return Optional.of(column);
+            }
+        }
+        return Optional.empty();
+    }
+}
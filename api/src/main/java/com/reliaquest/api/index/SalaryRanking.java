@@ -0,0 +1,89 @@
+package com.reliaquest.api.index;
+
+import com.reliaquest.api.cache.RosterListener;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Employees ordered by salary, highest first, kept up to date from the roster cache. Ties are broken by roster order,
+ * which is what a stable sort of the roster by descending salary would give.
+ *
+ * <p>Updates cost O(log n). Reading the top K costs O(K) and needs no lock, because the ranking is a concurrent
+ * skip list that is swapped wholesale when the roster is replaced. Employees without a salary are not ranked.
+ */
+@Component
+public class SalaryRanking implements RosterListener {
+    private static final Comparator<RankKey> HIGHEST_FIRST = Comparator.comparingInt(RankKey::salary)
+            .reversed()
+            .thenComparingLong(RankKey::sequence);
+
+    private volatile ConcurrentSkipListMap<RankKey, Employee> ranking = new ConcurrentSkipListMap<>(HIGHEST_FIRST);
+    // only touched from listener callbacks, which the cache serializes
+    private Map<String, RankKey> keysById = new HashMap<>();
+    private long nextSequence;
+
+    public int highestSalary() {
+        Map.Entry<RankKey, Employee> first = ranking.firstEntry();
+        return first == null ? 0 : first.getKey().salary();
+    }
+
+    public List<String> topNames(int limit) {
+        List<String> names = new ArrayList<>(limit);
+        for (Employee employee : ranking.values()) {
+            if (names.size() == limit) {
+                break;
+            }
+            names.add(employee.getName());
+        }
+        return names;
+    }
+
+    @Override
+    public void onReplace(List<Employee> employees) {
+        ConcurrentSkipListMap<RankKey, Employee> rebuilt = new ConcurrentSkipListMap<>(HIGHEST_FIRST);
+        keysById = new HashMap<>();
+        nextSequence = 0;
+        for (Employee employee : employees) {
+            add(rebuilt, employee);
+        }
+        ranking = rebuilt;
+    }
+
+    @Override
+    public void onPut(Employee employee) {
+        remove(employee.getId());
+        add(ranking, employee);
+    }
+
+    @Override
+    public void onEvict(Employee employee) {
+        remove(employee.getId());
+    }
+
+    private void add(ConcurrentSkipListMap<RankKey, Employee> target, Employee employee) {
+        long sequence = nextSequence++;
+        if (employee.getSalary() == null) {
+            return;
+        }
+        RankKey key = new RankKey(employee.getSalary(), sequence);
+        target.put(key, employee);
+        if (employee.getId() != null) {
+            keysById.put(employee.getId(), key);
+        }
+    }
+
+    private void remove(String id) {
+        RankKey key = id == null ? null : keysById.remove(id);
+        if (key != null) {
+            ranking.remove(key);
+        }
+    }
+
+    private record RankKey(int salary, long sequence) {}
+}
@@ -0,0 +1,7 @@
+package com.reliaquest.api.model;
+
+/**
+ * Outcome of one item of a batch. {@code index} is the item's position in the request, {@code status} the HTTP status
+ * the single-item endpoint would have answered with; {@code error} is only set when that is not a 2xx.
+ */
+public record BatchItemResult<T>(int index, int status, T result, String error) {}
@@ -0,0 +1,8 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * Per-item outcomes of a batch, in request order.
+ */
+public record BatchResult<T>(int succeeded, int failed, long elapsedMillis, List<BatchItemResult<T>> items) {}
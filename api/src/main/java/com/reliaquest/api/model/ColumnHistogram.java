@@ -0,0 +1,7 @@
+package com.reliaquest.api.model;
+
+/**
+ * Equal-width histogram of one numeric roster column. Bucket {@code i} covers
+ * {@code [min + i * bucketWidth, min + (i + 1) * bucketWidth)}; the last bucket also includes {@code max}.
+ */
+public record ColumnHistogram(int min, int max, int bucketWidth, int[] counts) {}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.model;
+
+/**
+ * Summary of one numeric roster column. Percentiles use the nearest-rank method.
+ */
+public record ColumnStatistics(int count, int min, int max, double average, int p50, int p90, int p99) {
+
+    public static final ColumnStatistics EMPTY = new ColumnStatistics(0, 0, 0, 0, 0, 0, 0);
+}
@@ -0,0 +1,12 @@
+package com.reliaquest.api.model;
+
+/**
+ * One entry of the upstream roster change log. A deleted employee is carried as it was when it was removed.
+ */
+public record EmployeeChange(long sequence, Type type, Employee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
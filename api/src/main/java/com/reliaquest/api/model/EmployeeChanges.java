@@ -0,0 +1,8 @@
+package com.reliaquest.api.model;
+
+import java.util.List;
+
+/**
+ * The upstream roster changes after a given version, oldest first, and the version they bring the roster to.
+ */
+public record EmployeeChanges(String version, List<EmployeeChange> changes) {}
@@ -0,0 +1,26 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of {@link EmployeeService} with the same operations and results. Each method returns as soon
+ * as the work is started, and the future completes on the thread that finished it.
+ */
+public interface AsyncEmployeeService {
+    CompletableFuture<List<Employee>> getAllEmployees();
+
+    CompletableFuture<List<Employee>> getEmployeesByNameSearch(String searchString);
+
+    CompletableFuture<Employee> getEmployeeById(String id);
+
+    CompletableFuture<Integer> getHighestSalaryOfEmployees();
+
+    CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNames();
+
+    CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput);
+
+    CompletableFuture<String> deleteEmployeeById(String id);
+}
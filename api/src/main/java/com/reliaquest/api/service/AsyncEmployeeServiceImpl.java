@@ -0,0 +1,153 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.AsyncEmployeeApiClient;
+import com.reliaquest.api.client.Futures;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.exception.CircuitOpenException;
+import com.reliaquest.api.exception.ConflictException;
+import com.reliaquest.api.index.EmployeeIdIndex;
+import com.reliaquest.api.index.EmployeeNameIndex;
+import com.reliaquest.api.index.SalaryRanking;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * {@link AsyncEmployeeService} over the same roster cache and indexes as {@link EmployeeServiceImpl}.
+ *
+ * <p>Roster reads complete at once from a usable snapshot. Otherwise they wait for the cache's shared reload, which
+ * still runs on the task executor, but only once however many requests are waiting for it. Single-employee calls go
+ * to the upstream through the {@link AsyncEmployeeApiClient} and hold no thread while they are in flight.
+ */
+@Service
+public class AsyncEmployeeServiceImpl implements AsyncEmployeeService {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncEmployeeServiceImpl.class);
+    private static final int TOP_EARNERS_LIMIT = 10;
+    private final AsyncEmployeeApiClient asyncEmployeeApiClient;
+    private final RosterCache rosterCache;
+    private final EmployeeNameIndex employeeNameIndex;
+    private final SalaryRanking salaryRanking;
+    private final EmployeeIdIndex employeeIdIndex;
+    private final SingleFlight<String, Employee> employeeLookups = new SingleFlight<>();
+
+    public AsyncEmployeeServiceImpl(
+            AsyncEmployeeApiClient asyncEmployeeApiClient,
+            RosterCache rosterCache,
+            EmployeeNameIndex employeeNameIndex,
+            SalaryRanking salaryRanking,
+            EmployeeIdIndex employeeIdIndex) {
+        this.asyncEmployeeApiClient = asyncEmployeeApiClient;
+        this.rosterCache = rosterCache;
+        this.employeeNameIndex = employeeNameIndex;
+        this.salaryRanking = salaryRanking;
+        this.employeeIdIndex = employeeIdIndex;
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getAllEmployees() {
+        logger.info("Attempting to fetch all employees asynchronously");
+        return rosterCache.reloadOrLastGoodAsync().thenApply(RosterSnapshot::employees);
+    }
+
+    @Override
+    public CompletableFuture<List<Employee>> getEmployeesByNameSearch(String searchString) {
+        logger.info("Searching employees with name asynchronously: {}", searchString);
+        if (searchString == null) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        // the index follows the cache, so make sure the cache is loaded and fresh enough first
+        return rosterCache.getSnapshotAsync().thenApply(ignored -> employeeNameIndex.search(searchString));
+    }
+
+    @Override
+    public CompletableFuture<Employee> getEmployeeById(String id) {
+        logger.info("Attempting to fetch employee with id asynchronously: {}", id);
+        return fetchEmployeeById(id).exceptionally(error -> {
+            Throwable cause = Futures.unwrap(error);
+            if (cause instanceof CircuitOpenException e) {
+                logger.warn("Upstream circuit is open, looking up employee with id {} in the roster cache", id);
+                return rosterCache.findCached(id).orElseThrow(() -> e);
+            }
+            throw new CompletionException(cause);
+        });
+    }
+
+    @Override
+    public CompletableFuture<Integer> getHighestSalaryOfEmployees() {
+        logger.info("Calculating highest salary of all employees asynchronously");
+        return rosterCache.getSnapshotAsync().thenApply(ignored -> salaryRanking.highestSalary());
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getTopTenHighestEarningEmployeeNames() {
+        logger.info("Fetching top 10 highest earning employee names asynchronously");
+        return rosterCache.getSnapshotAsync().thenApply(ignored -> salaryRanking.topNames(TOP_EARNERS_LIMIT));
+    }
+
+    @Override
+    public CompletableFuture<Employee> createEmployee(EmployeeInput employeeInput) {
+        logger.info("Attempting to create employee asynchronously: {}", employeeInput);
+        return asyncEmployeeApiClient.createEmployee(employeeInput).thenApply(newEmployee -> {
+            if (newEmployee != null) {
+                rosterCache.put(newEmployee);
+            }
+            return newEmployee;
+        });
+    }
+
+    /**
+     * Resolves the name like {@link EmployeeServiceImpl#deleteEmployeeById}, looking it up only when the id is not
+     * indexed under a unique name and refusing the delete when the looked-up name is shared.
+     */
+    @Override
+    public CompletableFuture<String> deleteEmployeeById(String id) {
+        logger.info("Attempting to delete employee with id asynchronously: {}", id);
+        Optional<String> indexed = employeeIdIndex.nameOf(id);
+        CompletableFuture<String> name = indexed.isPresent()
+                ? CompletableFuture.completedFuture(indexed.get())
+                : fetchEmployeeById(id).thenCompose(employee -> uniqueName(id, employee));
+        return name.thenCompose(resolved -> {
+            if (resolved == null) {
+                logger.warn("No employee found with id: {}", id);
+                return CompletableFuture.completedFuture(null);
+            }
+            return asyncEmployeeApiClient.deleteEmployeeByName(resolved).thenApply(deleted -> {
+                employeeIdIndex.forget(id);
+                if (deleted) {
+                    logger.info("Successfully deleted employee with id: {}", id);
+                    rosterCache.evict(id);
+                    return resolved;
+                }
+                logger.error("Failed to delete employee with id: {}", id);
+                return null;
+            });
+        });
+    }
+
+    private CompletableFuture<String> uniqueName(String id, Employee employee) {
+        if (employee == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        // the index follows the cache, so make sure the cache is loaded and fresh enough first
+        return rosterCache.getSnapshotAsync().thenApply(ignored -> {
+            if (employeeIdIndex.sharesName(id, employee.getName())) {
+                logger.warn("Employee with id {} shares its name with another employee, refusing to delete", id);
+                throw new ConflictException(EmployeeServiceImpl.sharedNameMessage(id));
+            }
+            return employee.getName();
+        });
+    }
+
+    private CompletableFuture<Employee> fetchEmployeeById(String id) {
+        return employeeLookups.executeAsync(id, () -> asyncEmployeeApiClient.fetchEmployeeById(id));
+    }
+}
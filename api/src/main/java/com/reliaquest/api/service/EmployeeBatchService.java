@@ -0,0 +1,236 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.Futures;
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import com.reliaquest.api.controller.EmployeeIds;
+import com.reliaquest.api.exception.BadRequestException;
+import com.reliaquest.api.exception.ConflictException;
+import com.reliaquest.api.exception.RequestBudgetExhaustedException;
+import com.reliaquest.api.exception.ResourceNotFoundException;
+import com.reliaquest.api.exception.ServiceUnavailableException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.BatchItemResult;
+import com.reliaquest.api.model.BatchResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import jakarta.validation.Validator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Runs batches of creates and deletes through the single-item {@link AsyncEmployeeService} operations with up to
+ * {@code batch.concurrency} items in flight, so a batch takes about as long as the upstream's rate limit allows
+ * instead of one round trip per item.
+ *
+ * <p>Items the {@link UpstreamRateLimiter} turns away, or that the upstream answers with 429, were never applied. They
+ * are put back until the limiter expects a free permit and tried again, up to {@code batch.max-attempts} times. Every
+ * other outcome is final and reported per item with the status the single-item endpoint would have answered with.
+ *
+ * <p>Nothing here blocks: each of the {@code batch.concurrency} lanes starts its next item when the previous one
+ * completes, and the waits before trying an item again are timers. A batch holds no thread while its items are in
+ * flight, and the returned future completes on whichever thread finished the last one.
+ */
+@Service
+public class EmployeeBatchService {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeBatchService.class);
+    private final AsyncEmployeeService asyncEmployeeService;
+    private final UpstreamRateLimiter upstreamRateLimiter;
+    private final Validator validator;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final Duration minPause;
+
+    public EmployeeBatchService(
+            AsyncEmployeeService asyncEmployeeService,
+            UpstreamRateLimiter upstreamRateLimiter,
+            Validator validator,
+            @Value("${batch.concurrency:4}") int concurrency,
+            @Value("${batch.max-attempts:10}") int maxAttempts,
+            @Value("${batch.min-pause:100ms}") Duration minPause) {
+        this.asyncEmployeeService = asyncEmployeeService;
+        this.upstreamRateLimiter = upstreamRateLimiter;
+        this.validator = validator;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.minPause = minPause;
+    }
+
+    public CompletableFuture<BatchResult<Employee>> createEmployees(List<EmployeeInput> inputs) {
+        logger.info("Creating a batch of {} employees", inputs.size());
+        return run("createEmployees", inputs.size(), index -> {
+            EmployeeInput input = inputs.get(index);
+            if (input == null) {
+                throw new BadRequestException("Employee input cannot be null");
+            }
+            String violations = validator.validate(input).stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            if (!violations.isEmpty()) {
+                throw new BadRequestException(violations);
+            }
+            return asyncEmployeeService.createEmployee(input).thenApply(employee -> {
+                if (employee == null) {
+                    throw new IllegalStateException("Upstream returned no employee");
+                }
+                return employee;
+            });
+        });
+    }
+
+    /**
+     * Deletes by id and reports the deleted names. A repeated id is rejected rather than run twice, since two
+     * concurrent deletes of one id could remove two employees of the same name.
+     */
+    public CompletableFuture<BatchResult<String>> deleteEmployees(List<String> ids) {
+        logger.info("Deleting a batch of {} employees", ids.size());
+        Set<String> seen = new HashSet<>();
+        Set<Integer> duplicates = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (ids.get(i) != null && !seen.add(ids.get(i).toLowerCase())) {
+                duplicates.add(i);
+            }
+        }
+        return run("deleteEmployees", ids.size(), index -> {
+            String id = ids.get(index);
+            if (!EmployeeIds.isValid(id)) {
+                throw new BadRequestException(EmployeeIds.INVALID_MESSAGE);
+            }
+            if (duplicates.contains(index)) {
+                throw new BadRequestException("Duplicate id in batch");
+            }
+            return asyncEmployeeService.deleteEmployeeById(id).thenApply(name -> {
+                if (name == null) {
+                    throw new ResourceNotFoundException("Employee with id " + id + " not found");
+                }
+                return name;
+            });
+        });
+    }
+
+    private <T> CompletableFuture<BatchResult<T>> run(
+            String operation, int size, IntFunction<CompletableFuture<T>> item) {
+        long startNanos = System.nanoTime();
+        AtomicReferenceArray<BatchItemResult<T>> results = new AtomicReferenceArray<>(size);
+        AtomicInteger next = new AtomicInteger();
+        int lanes = Math.min(concurrency, size);
+        CompletableFuture<?>[] running = new CompletableFuture<?>[lanes];
+        for (int i = 0; i < lanes; i++) {
+            running[i] = nextItems(operation, size, item, next, results);
+        }
+        return CompletableFuture.allOf(running).thenApply(ignored -> {
+            List<BatchItemResult<T>> items = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                items.add(results.get(i));
+            }
+            long succeeded = items.stream()
+                    .filter(result -> HttpStatus.valueOf(result.status()).is2xxSuccessful())
+                    .count();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            logger.info("{} finished {} of {} items in {} ms", operation, succeeded, size, elapsedMillis);
+            return new BatchResult<>((int) succeeded, size - (int) succeeded, elapsedMillis, items);
+        });
+    }
+
+    /**
+     * Runs one lane: takes items until none are left, moving on inline while they complete at once (such as invalid
+     * ones) and from the completing thread once one has to wait for the upstream.
+     */
+    private <T> CompletableFuture<Void> nextItems(
+            String operation,
+            int size,
+            IntFunction<CompletableFuture<T>> item,
+            AtomicInteger next,
+            AtomicReferenceArray<BatchItemResult<T>> results) {
+        for (int index = next.getAndIncrement(); index < size; index = next.getAndIncrement()) {
+            CompletableFuture<BatchItemResult<T>> result = execute(operation, index, item, 1);
+            if (!result.isDone()) {
+                int pending = index;
+                return result.thenCompose(done -> {
+                    results.set(pending, done);
+                    return nextItems(operation, size, item, next, results);
+                });
+            }
+            results.set(index, result.join());
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private <T> CompletableFuture<BatchItemResult<T>> execute(
+            String operation, int index, IntFunction<CompletableFuture<T>> item, int attempt) {
+        return Futures.invoke(() -> item.apply(index))
+                .handle((value, error) -> {
+                    if (error == null) {
+                        return CompletableFuture.completedFuture(
+                                new BatchItemResult<T>(index, HttpStatus.OK.value(), value, null));
+                    }
+                    return retryOrFail(operation, index, item, attempt, Futures.unwrap(error));
+                })
+                .thenCompose(result -> result);
+    }
+
+    private <T> CompletableFuture<BatchItemResult<T>> retryOrFail(
+            String operation, int index, IntFunction<CompletableFuture<T>> item, int attempt, Throwable error) {
+        boolean throttled = error instanceof RequestBudgetExhaustedException
+                || error instanceof HttpClientErrorException.TooManyRequests;
+        if (!throttled) {
+            return CompletableFuture.completedFuture(failure(operation, index, error));
+        }
+        if (attempt >= maxAttempts) {
+            return CompletableFuture.completedFuture(
+                    failure(index, HttpStatus.TOO_MANY_REQUESTS.value(), error.getMessage()));
+        }
+        Duration pause = upstreamRateLimiter.timeToNextPermit();
+        if (pause.compareTo(minPause) < 0) {
+            pause = minPause;
+        }
+        logger.debug("{} item {} was throttled, trying again in {}", operation, index, pause);
+        Executor timer = CompletableFuture.delayedExecutor(pause.toMillis(), TimeUnit.MILLISECONDS);
+        return CompletableFuture.runAsync(() -> {}, timer)
+                .thenCompose(ignored -> execute(operation, index, item, attempt + 1));
+    }
+
+    private static <T> BatchItemResult<T> failure(String operation, int index, Throwable error) {
+        if (error instanceof BadRequestException) {
+            return failure(index, HttpStatus.BAD_REQUEST.value(), error.getMessage());
+        }
+        if (error instanceof ResourceNotFoundException) {
+            return failure(index, HttpStatus.NOT_FOUND.value(), error.getMessage());
+        }
+        if (error instanceof ConflictException) {
+            return failure(index, HttpStatus.CONFLICT.value(), error.getMessage());
+        }
+        if (error instanceof TooManyRequestsException) {
+            return failure(index, HttpStatus.TOO_MANY_REQUESTS.value(), error.getMessage());
+        }
+        if (error instanceof ServiceUnavailableException) {
+            return failure(index, HttpStatus.SERVICE_UNAVAILABLE.value(), error.getMessage());
+        }
+        if (error instanceof RestClientResponseException e) {
+            return failure(index, e.getStatusCode().value(), e.getStatusText());
+        }
+        logger.error("{} item {} failed", operation, index, error);
+        return failure(index, HttpStatus.INTERNAL_SERVER_ERROR.value(), "An unexpected error occurred");
+    }
+
+    private static <T> BatchItemResult<T> failure(int index, int status, String error) {
+        return new BatchItemResult<>(index, status, null, error);
+    }
+}
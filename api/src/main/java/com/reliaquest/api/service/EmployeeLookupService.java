@@ -0,0 +1,239 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.Futures;
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import com.reliaquest.api.controller.EmployeeIds;
+import com.reliaquest.api.exception.RequestBudgetExhaustedException;
+import com.reliaquest.api.exception.ServiceUnavailableException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.BatchItemResult;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Looks up many employees by id at once. Ids found in the cached roster are answered first, in one pass over the
+ * snapshot; the rest are fetched through {@link AsyncEmployeeService#getEmployeeById} with up to
+ * {@code lookup.concurrency} requests in flight, never more than the {@link UpstreamRateLimiter}'s current budget.
+ *
+ * <p>Fetches the limiter turns away, or that the upstream answers with 429, are started again once the limiter expects
+ * a free permit, up to {@code lookup.max-attempts} times. The waits are timers, so a lookup holds no thread while
+ * throttled. A repeated id is fetched once and reported for every position it was given at.
+ */
+@Service
+public class EmployeeLookupService {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeLookupService.class);
+    private final RosterCache rosterCache;
+    private final AsyncEmployeeService asyncEmployeeService;
+    private final UpstreamRateLimiter upstreamRateLimiter;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final Duration minPause;
+
+    public EmployeeLookupService(
+            RosterCache rosterCache,
+            AsyncEmployeeService asyncEmployeeService,
+            UpstreamRateLimiter upstreamRateLimiter,
+            @Value("${lookup.concurrency:8}") int concurrency,
+            @Value("${lookup.max-attempts:10}") int maxAttempts,
+            @Value("${lookup.min-pause:100ms}") Duration minPause) {
+        this.rosterCache = rosterCache;
+        this.asyncEmployeeService = asyncEmployeeService;
+        this.upstreamRateLimiter = upstreamRateLimiter;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.minPause = minPause;
+    }
+
+    /**
+     * Hands every id's result to the visitor as soon as it is known, so results arrive in completion order; each
+     * carries the id's position in {@code ids}. The visitor is called one result at a time, from whichever thread
+     * finished the lookup, and stops the lookup by returning {@code false}.
+     *
+     * @return completes once the visitor has seen every result or stopped
+     */
+    public CompletableFuture<Void> lookupEmployees(List<String> ids, Predicate<BatchItemResult<Employee>> visitor) {
+        logger.info("Looking up {} employees by id", ids.size());
+        Lookup lookup = new Lookup(visitor);
+        Map<String, List<Integer>> positions = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            if (EmployeeIds.isValid(id)) {
+                positions.computeIfAbsent(id.toLowerCase(Locale.ROOT), ignored -> new ArrayList<>()).add(i);
+            } else if (!lookup.emit(failure(i, HttpStatus.BAD_REQUEST.value(), EmployeeIds.INVALID_MESSAGE))) {
+                return CompletableFuture.completedFuture(null);
+            }
+        }
+        if (positions.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return rosterCache
+                .getSnapshotAsync()
+                .exceptionally(error -> {
+                    logger.warn("Roster cache unavailable, fetching all {} ids upstream", positions.size(), error);
+                    return null;
+                })
+                .thenCompose(snapshot -> {
+                    int cached = answerFromCache(snapshot, positions, lookup);
+                    logger.debug("Found {} of {} ids in the roster cache", cached, cached + positions.size());
+                    return fetchMisses(positions, lookup);
+                })
+                .whenComplete((ignored, error) -> logger.info(
+                        "Looked up {} employees in {} ms",
+                        ids.size(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lookup.startNanos)));
+    }
+
+    /**
+     * Emits the ids found in the snapshot and removes them from {@code positions}.
+     *
+     * @return how many ids were found
+     */
+    private static int answerFromCache(RosterSnapshot snapshot, Map<String, List<Integer>> positions, Lookup lookup) {
+        if (snapshot == null) {
+            return 0;
+        }
+        int found = 0;
+        for (Employee employee : snapshot.employees()) {
+            if (lookup.stopped.get() || positions.isEmpty()) {
+                break;
+            }
+            String id = employee.getId() != null ? employee.getId().toLowerCase(Locale.ROOT) : null;
+            List<Integer> indexes = positions.remove(id);
+            if (indexes != null) {
+                found++;
+                lookup.emitAll(indexes, HttpStatus.OK.value(), employee, null);
+            }
+        }
+        return found;
+    }
+
+    private CompletableFuture<Void> fetchMisses(Map<String, List<Integer>> positions, Lookup lookup) {
+        if (positions.isEmpty() || lookup.stopped.get()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Queue<Map.Entry<String, List<Integer>>> pending = new ConcurrentLinkedQueue<>(positions.entrySet());
+        int budget = (int) Math.max(1, Math.floor(upstreamRateLimiter.budget()));
+        int lanes = Math.min(Math.min(concurrency, budget), pending.size());
+        logger.debug("Fetching {} ids upstream, {} at a time", pending.size(), lanes);
+        CompletableFuture<?>[] running = new CompletableFuture<?>[lanes];
+        for (int i = 0; i < lanes; i++) {
+            running[i] = nextFetch(pending, lookup);
+        }
+        return CompletableFuture.allOf(running);
+    }
+
+    /**
+     * Fetches the queued ids one after another until the queue is empty or the lookup is stopped.
+     */
+    private CompletableFuture<Void> nextFetch(Queue<Map.Entry<String, List<Integer>>> pending, Lookup lookup) {
+        Map.Entry<String, List<Integer>> next = lookup.stopped.get() ? null : pending.poll();
+        if (next == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return fetch(next.getKey(), 1)
+                .thenAccept(outcome -> report(next.getKey(), next.getValue(), outcome, lookup))
+                .thenCompose(ignored -> nextFetch(pending, lookup));
+    }
+
+    private CompletableFuture<Outcome> fetch(String id, int attempt) {
+        return Futures.invoke(() -> asyncEmployeeService.getEmployeeById(id))
+                .handle((employee, error) -> new Outcome(employee, Futures.unwrap(error)))
+                .thenCompose(outcome -> {
+                    if (!isThrottled(outcome.error()) || attempt >= maxAttempts) {
+                        return CompletableFuture.completedFuture(outcome);
+                    }
+                    Duration pause = upstreamRateLimiter.timeToNextPermit();
+                    if (pause.compareTo(minPause) < 0) {
+                        pause = minPause;
+                    }
+                    logger.debug("Lookup of id {} was throttled, trying again in {}", id, pause);
+                    Executor timer = CompletableFuture.delayedExecutor(pause.toMillis(), TimeUnit.MILLISECONDS);
+                    return CompletableFuture.runAsync(() -> {}, timer).thenCompose(ignored -> fetch(id, attempt + 1));
+                });
+    }
+
+    private static void report(String id, List<Integer> indexes, Outcome outcome, Lookup lookup) {
+        Throwable error = outcome.error();
+        if (error == null && outcome.employee() != null) {
+            lookup.emitAll(indexes, HttpStatus.OK.value(), outcome.employee(), null);
+        } else if (error == null) {
+            lookup.emitAll(indexes, HttpStatus.NOT_FOUND.value(), null, "Employee with id " + id + " not found");
+        } else if (isThrottled(error) || error instanceof TooManyRequestsException) {
+            lookup.emitAll(indexes, HttpStatus.TOO_MANY_REQUESTS.value(), null, error.getMessage());
+        } else if (error instanceof ServiceUnavailableException) {
+            lookup.emitAll(indexes, HttpStatus.SERVICE_UNAVAILABLE.value(), null, error.getMessage());
+        } else if (error instanceof RestClientResponseException e) {
+            lookup.emitAll(indexes, e.getStatusCode().value(), null, e.getStatusText());
+        } else {
+            logger.error("Lookup of id {} failed", id, error);
+            lookup.emitAll(indexes, HttpStatus.INTERNAL_SERVER_ERROR.value(), null, "An unexpected error occurred");
+        }
+    }
+
+    private static boolean isThrottled(Throwable error) {
+        return error instanceof RequestBudgetExhaustedException
+                || error instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    private static BatchItemResult<Employee> failure(int index, int status, String error) {
+        return new BatchItemResult<>(index, status, null, error);
+    }
+
+    private record Outcome(Employee employee, Throwable error) {}
+
+    /**
+     * Serializes the calls to one lookup's visitor and remembers when it asked to stop.
+     */
+    private static final class Lookup {
+        private final Predicate<BatchItemResult<Employee>> visitor;
+        private final AtomicBoolean stopped = new AtomicBoolean();
+        private int emitted;
+        private final long startNanos = System.nanoTime();
+
+        private Lookup(Predicate<BatchItemResult<Employee>> visitor) {
+            this.visitor = visitor;
+        }
+
+        private synchronized boolean emit(BatchItemResult<Employee> result) {
+            if (stopped.get()) {
+                return false;
+            }
+            emitted++;
+            if (!visitor.test(result)) {
+                logger.debug("Lookup stopped by its caller after {} results", emitted);
+                stopped.set(true);
+            }
+            return !stopped.get();
+        }
+
+        private void emitAll(List<Integer> indexes, int status, Employee employee, String error) {
+            for (int index : indexes) {
+                if (!emit(new BatchItemResult<>(index, status, employee, error))) {
+                    return;
+                }
+            }
+        }
+    }
+}
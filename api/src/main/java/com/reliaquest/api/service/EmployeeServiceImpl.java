@@ -1,55 +1,50 @@
 package com.reliaquest.api.service;
 
-import com.reliaquest.api.model.ApiResponse;
-import com.reliaquest.api.model.DeleteEmployeeInput;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.SingleFlight;
+import com.reliaquest.api.exception.CircuitOpenException;
+import com.reliaquest.api.exception.ConflictException;
+import com.reliaquest.api.index.EmployeeIdIndex;
+import com.reliaquest.api.index.EmployeeNameIndex;
+import com.reliaquest.api.index.SalaryRanking;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
+import com.reliaquest.api.trace.Traces;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.RestTemplate;
 
 @Service
 public class EmployeeServiceImpl implements EmployeeService {
     private static final Logger logger = LoggerFactory.getLogger(EmployeeServiceImpl.class);
-    private final RestTemplate restTemplate;
-    private final String mockApiUrl;
+    private static final int TOP_EARNERS_LIMIT = 10;
+    private final EmployeeApiClient employeeApiClient;
+    private final RosterCache rosterCache;
+    private final EmployeeNameIndex employeeNameIndex;
+    private final SalaryRanking salaryRanking;
+    private final EmployeeIdIndex employeeIdIndex;
+    private final SingleFlight<String, Employee> employeeLookups = new SingleFlight<>();
 
-    public EmployeeServiceImpl(RestTemplate restTemplate, @Value("${mock.api.url}") String mockApiUrl) {
-        this.restTemplate = restTemplate;
-        this.mockApiUrl = mockApiUrl;
+    public EmployeeServiceImpl(
+            EmployeeApiClient employeeApiClient,
+            RosterCache rosterCache,
+            EmployeeNameIndex employeeNameIndex,
+            SalaryRanking salaryRanking,
+            EmployeeIdIndex employeeIdIndex) {
+        this.employeeApiClient = employeeApiClient;
+        this.rosterCache = rosterCache;
+        this.employeeNameIndex = employeeNameIndex;
+        this.salaryRanking = salaryRanking;
+        this.employeeIdIndex = employeeIdIndex;
     }
 
     @Override
-    @Retryable(
-            value = {HttpClientErrorException.TooManyRequests.class, HttpServerErrorException.ServiceUnavailable.class},
-            maxAttemptsExpression = "${retry.maxAttempts}",
-            backoff = @Backoff(delayExpression = "${retry.delay}", multiplier = 2, random = true))
     public List<Employee> getAllEmployees() {
         logger.info("Attempting to fetch all employees");
-        try {
-            ResponseEntity<ApiResponse<List<Employee>>> response = restTemplate.exchange(
-                    mockApiUrl, HttpMethod.GET, null, new ParameterizedTypeReference<ApiResponse<List<Employee>>>() {});
-            List<Employee> employees =
-                    Objects.nonNull(response.getBody()) ? response.getBody().getData() : Collections.emptyList();
-            logger.info("Successfully fetched {} employees", employees.size());
-            return employees;
-        } catch (HttpClientErrorException e) {
-            logger.error("Error while fetching all employees", e);
-            throw e;
-        }
+        return Traces.span("service.roster", rosterCache::reloadOrLastGood).employees();
     }
 
     @Override
@@ -58,111 +53,95 @@ public class EmployeeServiceImpl implements EmployeeService {
         if (searchString == null) {
             return Collections.emptyList();
         }
-        return getAllEmployees().stream()
-                .filter(employee -> employee.getName().toLowerCase().contains(searchString.toLowerCase()))
-                .toList();
+        // the index follows the cache, so make sure the cache is loaded and fresh enough first
+        Traces.span("service.roster", rosterCache::getSnapshot);
+        return Traces.span("service.filter", () -> employeeNameIndex.search(searchString));
     }
 
     @Override
-    @Retryable(
-            value = {HttpClientErrorException.TooManyRequests.class, HttpServerErrorException.ServiceUnavailable.class},
-            maxAttemptsExpression = "${retry.maxAttempts}",
-            backoff = @Backoff(delayExpression = "${retry.delay}", multiplier = 2, random = true))
     public Employee getEmployeeById(String id) {
         logger.info("Attempting to fetch employee with id: {}", id);
         try {
-            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                    mockApiUrl + "/" + id,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<ApiResponse<Employee>>() {});
-            Employee employee =
-                    Objects.nonNull(response.getBody()) ? response.getBody().getData() : null;
-            if (employee != null) {
-                logger.info("Successfully fetched employee with id: {}", id);
-            } else {
-                logger.warn("No employee found with id: {}", id);
-            }
-            return employee;
-        } catch (HttpClientErrorException.NotFound e) {
-            logger.warn("Employee with id {} not found in remote API", id);
-            return null;
-        } catch (HttpClientErrorException e) {
-            logger.error("Error while fetching employee with id: {}", id, e);
-            throw e;
+            return fetchEmployeeById(id);
+        } catch (CircuitOpenException e) {
+            logger.warn("Upstream circuit is open, looking up employee with id {} in the roster cache", id);
+            return rosterCache.findCached(id).orElseThrow(() -> e);
         }
     }
 
     @Override
     public Integer getHighestSalaryOfEmployees() {
         logger.info("Calculating highest salary of all employees");
-        return getAllEmployees().stream()
-                .map(Employee::getSalary)
-                .max(Integer::compareTo)
-                .orElse(0);
+        Traces.span("service.roster", rosterCache::getSnapshot);
+        return salaryRanking.highestSalary();
     }
 
     @Override
     public List<String> getTopTenHighestEarningEmployeeNames() {
         logger.info("Fetching top 10 highest earning employee names");
-        return getAllEmployees().stream()
-                .sorted((e1, e2) -> e2.getSalary().compareTo(e1.getSalary()))
-                .limit(10)
-                .map(Employee::getName)
-                .toList();
+        Traces.span("service.roster", rosterCache::getSnapshot);
+        return salaryRanking.topNames(TOP_EARNERS_LIMIT);
     }
 
     @Override
     public Employee createEmployee(EmployeeInput employeeInput) {
         logger.info("Attempting to create employee: {}", employeeInput);
-        try {
-            ResponseEntity<ApiResponse<Employee>> response = restTemplate.exchange(
-                    mockApiUrl,
-                    HttpMethod.POST,
-                    new org.springframework.http.HttpEntity<>(employeeInput),
-                    new ParameterizedTypeReference<ApiResponse<Employee>>() {});
-            Employee newEmployee =
-                    response.getBody() != null ? response.getBody().getData() : null;
-            logger.info("Successfully created employee: {}", newEmployee);
-            return newEmployee;
-        } catch (HttpClientErrorException e) {
-            logger.error("Error while creating employee: {}", employeeInput, e);
-            throw e;
+        Employee newEmployee = employeeApiClient.createEmployee(employeeInput);
+        if (newEmployee != null) {
+            rosterCache.put(newEmployee);
         }
+        return newEmployee;
     }
 
+    /**
+     * Resolves the name from the {@link EmployeeIdIndex}, so a delete is a single upstream call when the id is cached
+     * under a unique name. Otherwise the employee is looked up by id, and since the upstream can only delete by name,
+     * the delete is refused with a {@link ConflictException} when another employee in the roster shares that name.
+     */
     @Override
-    @Retryable(
-            value = {HttpClientErrorException.TooManyRequests.class, HttpServerErrorException.ServiceUnavailable.class},
-            maxAttemptsExpression = "${retry.maxAttempts}",
-            backoff = @Backoff(delayExpression = "${retry.delay}", multiplier = 2, random = true))
     public String deleteEmployeeById(String id) {
         logger.info("Attempting to delete employee with id: {}", id);
-        try {
-            Employee employee = getEmployeeById(id);
+        String name = employeeIdIndex.nameOf(id).orElse(null);
+        if (name == null) {
+            logger.debug("Employee with id {} is not indexed under a unique name, looking it up", id);
+            Employee employee = fetchEmployeeById(id);
             if (employee == null) {
                 logger.warn("No employee found with id: {}", id);
                 return null;
             }
+            name = employee.getName();
+            // the index follows the cache, so make sure the cache is loaded and fresh enough first
+            Traces.span("service.roster", rosterCache::getSnapshot);
+            if (employeeIdIndex.sharesName(id, name)) {
+                logger.warn("Employee with id {} shares its name with another employee, refusing to delete", id);
+                throw new ConflictException(sharedNameMessage(id));
+            }
+        }
 
-            DeleteEmployeeInput deleteEmployeeInput = new DeleteEmployeeInput(employee.getName());
-            HttpEntity<DeleteEmployeeInput> httpEntity = new HttpEntity<>(deleteEmployeeInput);
-            ResponseEntity<ApiResponse<Boolean>> response = restTemplate.exchange(
-                    mockApiUrl, HttpMethod.DELETE, httpEntity, new ParameterizedTypeReference<>() {});
+        if (employeeApiClient.deleteEmployeeByName(name, deleted -> forgetDeleted(id, deleted))) {
+            logger.info("Successfully deleted employee with id: {}", id);
+            return name;
+        }
+        logger.error("Failed to delete employee with id: {}", id);
+        return null;
+    }
 
-            if (response.getBody() != null && response.getBody().getData()) {
-                logger.info("Successfully deleted employee with id: {}", id);
-                return employee.getName();
-            } else {
-                logger.error("Failed to delete employee with id: {}", id);
-                return null;
-            }
-        } catch (HttpClientErrorException.NotFound e) {
-            logger.warn("Employee with id {} not found, cannot delete", id);
-            return null;
-        } catch (HttpClientErrorException e) {
-            logger.error("Error while deleting employee with id: {}", id, e);
-            throw e;
+    /**
+     * Runs when the upstream answers the delete, which with {@code retry.mode=async} can be after the caller was
+     * already answered with a 429.
+     */
+    private void forgetDeleted(String id, boolean deleted) {
+        if (deleted) {
+            rosterCache.evict(id);
         }
+        employeeIdIndex.forget(id);
+    }
+
+    static String sharedNameMessage(String id) {
+        return "Employee with id " + id + " shares its name with another employee and cannot be deleted by name";
+    }
+
+    private Employee fetchEmployeeById(String id) {
+        return employeeLookups.execute(id, () -> employeeApiClient.fetchEmployeeById(id));
     }
 }
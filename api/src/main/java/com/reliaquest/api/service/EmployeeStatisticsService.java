@@ -0,0 +1,41 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.index.ColumnarRoster;
+import com.reliaquest.api.index.RosterColumn;
+import com.reliaquest.api.model.ColumnHistogram;
+import com.reliaquest.api.model.ColumnStatistics;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+@Service
+public class EmployeeStatisticsService {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeStatisticsService.class);
+    private final RosterCache rosterCache;
+    private final ColumnarRoster columnarRoster;
+
+    public EmployeeStatisticsService(RosterCache rosterCache, ColumnarRoster columnarRoster) {
+        this.rosterCache = rosterCache;
+        this.columnarRoster = columnarRoster;
+    }
+
+    public ColumnStatistics getStatistics(RosterColumn column) {
+        logger.info("Calculating {} statistics", column);
+        rosterCache.getSnapshot();
+        return columnarRoster.statistics(column);
+    }
+
+    public ColumnHistogram getHistogram(RosterColumn column, int buckets) {
+        logger.info("Calculating {} histogram with {} buckets", column, buckets);
+        rosterCache.getSnapshot();
+        return columnarRoster.histogram(column, buckets);
+    }
+
+    public Map<String, ColumnStatistics> getStatisticsByTitle(RosterColumn column) {
+        logger.info("Calculating {} statistics by title", column);
+        rosterCache.getSnapshot();
+        return columnarRoster.statisticsByTitle(column);
+    }
+}
@@ -0,0 +1,59 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.EmployeeRosterStream;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.stream.EmployeeSource;
+import com.reliaquest.api.stream.RosterScan;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Hands the roster out one employee at a time. A fresh cached snapshot is replayed as is; otherwise the upstream
+ * response is parsed while it arrives, so the roster is never held in full for the caller.
+ *
+ * <p>The search, highest salary and top earners here are the uncached versions of {@link EmployeeService}'s: one
+ * {@link RosterScan} pass over the upstream response, which neither reads nor fills the roster cache.
+ */
+@Service
+public class EmployeeStreamService {
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeStreamService.class);
+    private final RosterCache rosterCache;
+    private final EmployeeRosterStream employeeRosterStream;
+
+    public EmployeeStreamService(RosterCache rosterCache, EmployeeRosterStream employeeRosterStream) {
+        this.rosterCache = rosterCache;
+        this.employeeRosterStream = employeeRosterStream;
+    }
+
+    public void streamAllEmployees(Predicate<Employee> visitor) {
+        Optional<RosterSnapshot> fresh = rosterCache.getFreshSnapshot();
+        if (fresh.isPresent()) {
+            logger.info("Streaming {} employees from the roster cache", fresh.get().employees().size());
+            EmployeeSource.of(fresh.get().employees()).visit(visitor);
+            return;
+        }
+        logger.info("Streaming employees from the upstream");
+        employeeRosterStream.visit(visitor);
+    }
+
+    public List<Employee> searchUpstream(String searchString) {
+        logger.info("Searching employees with name {} in a pass over the upstream roster", searchString);
+        return RosterScan.search(employeeRosterStream, searchString);
+    }
+
+    public int highestSalaryUpstream() {
+        logger.info("Calculating highest salary in a pass over the upstream roster");
+        return RosterScan.highestSalary(employeeRosterStream);
+    }
+
+    public List<String> topEarnerNamesUpstream(int limit) {
+        logger.info("Ranking top {} earners in a pass over the upstream roster", limit);
+        return RosterScan.topNames(employeeRosterStream, limit);
+    }
+}
@@ -0,0 +1,28 @@
+package com.reliaquest.api.stream;
+
+import com.reliaquest.api.model.Employee;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Something that can hand out the roster one employee at a time without holding all of it.
+ */
+@FunctionalInterface
+public interface EmployeeSource {
+
+    /**
+     * Passes employees to the visitor in roster order until the roster is exhausted or the visitor returns
+     * {@code false}.
+     */
+    void visit(Predicate<Employee> visitor);
+
+    static EmployeeSource of(List<Employee> employees) {
+        return visitor -> {
+            for (Employee employee : employees) {
+                if (!visitor.test(employee)) {
+                    return;
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.reliaquest.api.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Predicate;
+
+/**
+ * Reads an upstream {@code {"data": [...], "status": ...}} roster response token by token. Each element of
+ * {@code data} is bound to an {@link Employee} on its own and handed to a visitor, so only one employee is alive at a
+ * time and the visitor can stop the read early. No tree and no list of the whole roster is ever built.
+ */
+public class EmployeeStreamReader {
+    private static final String DATA_FIELD = "data";
+    private final JsonFactory jsonFactory;
+    private final ObjectReader employeeReader;
+
+    public EmployeeStreamReader(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.employeeReader = objectMapper.readerFor(Employee.class);
+    }
+
+    /**
+     * @return the number of employees passed to the visitor
+     */
+    public int read(InputStream body, Predicate<Employee> visitor) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a roster response object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (DATA_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    return readEmployees(parser, visitor);
+                }
+                parser.skipChildren();
+            }
+            return 0;
+        }
+    }
+
+    private int readEmployees(JsonParser parser, Predicate<Employee> visitor) throws IOException {
+        int count = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            Employee employee = employeeReader.readValue(parser);
+            count++;
+            if (!visitor.test(employee)) {
+                break;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,73 @@
+package com.reliaquest.api.stream;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Single-pass roster queries over an {@link EmployeeSource}. Each keeps only its answer in memory (the matches, one
+ * integer, or a heap of {@code k} entries). Results are the same as the index-based answers, including roster order
+ * for ties: the search folds case like {@code EmployeeNameIndex}, and top-K orders like {@code SalaryRanking}.
+ */
+public final class RosterScan {
+
+    private RosterScan() {}
+
+    public static List<Employee> search(EmployeeSource source, String searchString) {
+        String term = searchString.toLowerCase();
+        List<Employee> matches = new ArrayList<>();
+        source.visit(employee -> {
+            if (employee.getName() != null && employee.getName().toLowerCase().contains(term)) {
+                matches.add(employee);
+            }
+            return true;
+        });
+        return matches;
+    }
+
+    public static int highestSalary(EmployeeSource source) {
+        int[] highest = {0};
+        boolean[] seen = {false};
+        source.visit(employee -> {
+            Integer salary = employee.getSalary();
+            if (salary != null && (!seen[0] || salary > highest[0])) {
+                highest[0] = salary;
+                seen[0] = true;
+            }
+            return true;
+        });
+        return highest[0];
+    }
+
+    /**
+     * Names of the {@code limit} highest earners, highest first, using a min-heap of at most {@code limit} entries.
+     * Equal salaries keep roster order, as a stable sort would.
+     */
+    public static List<String> topNames(EmployeeSource source, int limit) {
+        Comparator<Ranked> weakestFirst =
+                Comparator.comparingInt(Ranked::salary).thenComparing(Ranked::position, Comparator.reverseOrder());
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(Math.max(1, limit), weakestFirst);
+        long[] position = {0};
+        source.visit(employee -> {
+            long current = position[0]++;
+            if (employee.getSalary() == null || limit <= 0) {
+                return true;
+            }
+            Ranked candidate = new Ranked(employee.getSalary(), current, employee.getName());
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (weakestFirst.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+            return true;
+        });
+        List<Ranked> ranked = new ArrayList<>(heap);
+        ranked.sort(weakestFirst.reversed());
+        return ranked.stream().map(Ranked::name).toList();
+    }
+
+    private record Ranked(int salary, long position, String name) {}
+}
@@ -0,0 +1,58 @@
+package com.reliaquest.api.stream;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Reads a {@code text/event-stream} body and hands each complete event to a consumer as soon as its terminating blank
+ * line arrives. Comments, such as heartbeats, and {@code retry} fields are skipped. Multi-line {@code data} is joined
+ * with newlines.
+ */
+public class ServerSentEventReader {
+
+    /**
+     * One dispatched event. {@code id} and {@code name} are {@code null} when the event did not set them.
+     */
+    public record Event(String id, String name, String data) {}
+
+    /**
+     * Reads until the stream ends or the thread is interrupted.
+     */
+    public void read(InputStream body, Consumer<Event> consumer) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String id = null;
+        String name = null;
+        StringBuilder data = null;
+        String line;
+        while (!Thread.currentThread().isInterrupted() && (line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (data != null) {
+                    consumer.accept(new Event(id, name, data.toString()));
+                }
+                id = null;
+                name = null;
+                data = null;
+                continue;
+            }
+            if (line.startsWith(":")) {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            String field = colon < 0 ? line : line.substring(0, colon);
+            String value = colon < 0 ? "" : line.substring(colon + 1);
+            if (value.startsWith(" ")) {
+                value = value.substring(1);
+            }
+            switch (field) {
+                case "id" -> id = value;
+                case "event" -> name = value;
+                case "data" -> data = data == null ? new StringBuilder(value) : data.append('\n').append(value);
+                default -> {}
+            }
+        }
+    }
+}
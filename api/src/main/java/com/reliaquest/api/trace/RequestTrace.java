@@ -0,0 +1,60 @@
+package com.reliaquest.api.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The stages recorded so far for the request on the current thread. Only that thread adds spans; an async request's
+ * trace is read once its async context completes.
+ */
+final class RequestTrace {
+    private final String traceId;
+    private final long startNanos = System.nanoTime();
+    private final List<OpenSpan> spans = new ArrayList<>();
+    private int depth;
+
+    RequestTrace(String traceId) {
+        this.traceId = traceId;
+    }
+
+    String traceId() {
+        return traceId;
+    }
+
+    long elapsedMicros() {
+        return (System.nanoTime() - startNanos) / 1_000;
+    }
+
+    Traces.Scope open(String name) {
+        OpenSpan span = new OpenSpan(name, depth++, System.nanoTime());
+        spans.add(span);
+        return () -> {
+            span.endNanos = System.nanoTime();
+            depth--;
+        };
+    }
+
+    List<TraceSpan> spans() {
+        long now = System.nanoTime();
+        List<TraceSpan> finished = new ArrayList<>(spans.size());
+        for (OpenSpan span : spans) {
+            long end = span.endNanos == 0 ? now : span.endNanos;
+            finished.add(new TraceSpan(
+                    span.name, span.depth, (span.startNanos - startNanos) / 1_000, (end - span.startNanos) / 1_000));
+        }
+        return finished;
+    }
+
+    private static final class OpenSpan {
+        private final String name;
+        private final int depth;
+        private final long startNanos;
+        private long endNanos;
+
+        OpenSpan(String name, int depth, long startNanos) {
+            this.name = name;
+            this.depth = depth;
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.reliaquest.api.trace;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A finished request that took at least {@code tracing.slow-threshold}, with its stages in the order they started.
+ */
+public record SlowTrace(
+        String traceId,
+        String method,
+        String path,
+        int status,
+        Instant startedAt,
+        long durationMicros,
+        List<TraceSpan> spans) {}
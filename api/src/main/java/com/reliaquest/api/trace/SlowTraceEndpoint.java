@@ -0,0 +1,31 @@
+package com.reliaquest.api.trace;
+
+import java.util.List;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the {@link SlowTraceLog} at {@code /actuator/slowtraces}, newest first, and a single trace at
+ * {@code /actuator/slowtraces/{traceId}}.
+ */
+@Component
+@Endpoint(id = "slowtraces")
+public class SlowTraceEndpoint {
+    private final SlowTraceLog slowTraceLog;
+
+    public SlowTraceEndpoint(SlowTraceLog slowTraceLog) {
+        this.slowTraceLog = slowTraceLog;
+    }
+
+    @ReadOperation
+    public List<SlowTrace> slowTraces() {
+        return slowTraceLog.recent();
+    }
+
+    @ReadOperation
+    public SlowTrace slowTrace(@Selector String traceId) {
+        return slowTraceLog.find(traceId).orElse(null);
+    }
+}
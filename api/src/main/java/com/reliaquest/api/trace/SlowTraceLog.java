@@ -0,0 +1,62 @@
+package com.reliaquest.api.trace;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ring buffer of the last {@code capacity} requests that took at least {@code threshold}. Faster requests are
+ * dropped as soon as they finish, so a trace costs nothing beyond its span list unless it is slow.
+ */
+public class SlowTraceLog {
+    private static final Logger logger = LoggerFactory.getLogger(SlowTraceLog.class);
+    private final long thresholdMicros;
+    private final int capacity;
+    private final Deque<SlowTrace> traces = new ArrayDeque<>();
+
+    public SlowTraceLog(Duration threshold, int capacity) {
+        this.thresholdMicros = threshold.toNanos() / 1_000;
+        this.capacity = Math.max(1, capacity);
+    }
+
+    void record(RequestTrace trace, String method, String path, int status, Instant startedAt) {
+        long durationMicros = trace.elapsedMicros();
+        if (durationMicros < thresholdMicros) {
+            return;
+        }
+        SlowTrace slowTrace =
+                new SlowTrace(trace.traceId(), method, path, status, startedAt, durationMicros, trace.spans());
+        logger.info("Slow request {} {} took {} ms, trace {}", method, path, durationMicros / 1_000, trace.traceId());
+        synchronized (traces) {
+            if (traces.size() == capacity) {
+                traces.removeFirst();
+            }
+            traces.addLast(slowTrace);
+        }
+    }
+
+    /**
+     * The buffered traces, newest first.
+     */
+    public List<SlowTrace> recent() {
+        synchronized (traces) {
+            List<SlowTrace> recent = new ArrayList<>(traces.size());
+            traces.descendingIterator().forEachRemaining(recent::add);
+            return recent;
+        }
+    }
+
+    public Optional<SlowTrace> find(String traceId) {
+        synchronized (traces) {
+            return traces.stream()
+                    .filter(trace -> trace.traceId().equals(traceId))
+                    .findFirst();
+        }
+    }
+}
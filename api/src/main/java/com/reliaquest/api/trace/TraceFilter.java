@@ -0,0 +1,84 @@
+package com.reliaquest.api.trace;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Starts a {@link Traces trace} for every request and hands it to the {@link SlowTraceLog} when the request is done.
+ * A request that goes async, such as a stream or a {@code CompletableFuture} answer, is done when its async context
+ * completes, so its trace covers the whole response; only the spans opened on the request thread are part of it.
+ *
+ * <p>The trace id is taken from an incoming {@value #TRACE_ID_HEADER} header, or generated, and echoed on the response.
+ * It is also put in the logging MDC as {@code traceId} and sent on to the upstream with every call made for the
+ * request.
+ */
+public class TraceFilter extends OncePerRequestFilter {
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    static final String MDC_KEY = "traceId";
+    private static final Pattern VALID_TRACE_ID = Pattern.compile("[0-9A-Za-z-]{1,64}");
+
+    private final SlowTraceLog slowTraceLog;
+
+    public TraceFilter(SlowTraceLog slowTraceLog) {
+        this.slowTraceLog = slowTraceLog;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String traceId = traceId(request);
+        Instant startedAt = Instant.now();
+        RequestTrace trace = Traces.begin(traceId);
+        MDC.put(MDC_KEY, traceId);
+        response.setHeader(TRACE_ID_HEADER, traceId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        record(trace, request, response, startedAt);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {}
+
+                    @Override
+                    public void onError(AsyncEvent event) {}
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {}
+                });
+            } else {
+                record(trace, request, response, startedAt);
+            }
+            Traces.end();
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    private void record(
+            RequestTrace trace, HttpServletRequest request, HttpServletResponse response, Instant startedAt) {
+        slowTraceLog.record(trace, request.getMethod(), request.getRequestURI(), response.getStatus(), startedAt);
+    }
+
+    private static String traceId(HttpServletRequest request) {
+        String incoming = request.getHeader(TRACE_ID_HEADER);
+        if (incoming != null && VALID_TRACE_ID.matcher(incoming).matches()) {
+            return incoming;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return String.format("%016x%016x", random.nextLong(), random.nextLong());
+    }
+}
@@ -0,0 +1,20 @@
+package com.reliaquest.api.trace;
+
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Sends the current trace id to the upstream as {@value TraceFilter#TRACE_ID_HEADER}, so its logs can be matched
+ * with ours.
+ */
+public class TraceIdPropagation implements ClientHttpRequestInterceptor {
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Traces.currentTraceId().ifPresent(traceId -> request.getHeaders().set(TraceFilter.TRACE_ID_HEADER, traceId));
+        return execution.execute(request, body);
+    }
+}
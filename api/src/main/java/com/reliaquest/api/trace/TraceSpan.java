@@ -0,0 +1,7 @@
+package com.reliaquest.api.trace;
+
+/**
+ * One timed stage of a request. {@code depth} is 0 for stages opened directly by the request and one more for every
+ * enclosing stage; offsets and durations are in microseconds from the start of the request.
+ */
+public record TraceSpan(String name, int depth, long offsetMicros, long durationMicros) {}
@@ -0,0 +1,60 @@
+package com.reliaquest.api.trace;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Records the stages of the request being handled on the current thread. {@link TraceFilter} starts a trace for every
+ * request; outside of one, for example on a background refresh, spans cost nothing and record nothing.
+ *
+ * <pre>{@code
+ * List<Employee> matches = Traces.span("service.filter", () -> employeeNameIndex.search(searchString));
+ * }</pre>
+ */
+public final class Traces {
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+    private static final Scope NOOP = () -> {};
+
+    private Traces() {}
+
+    /**
+     * An open span, ended by {@link #close()}. For use in try-with-resources where the work throws checked exceptions.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    public static Scope open(String name) {
+        RequestTrace trace = CURRENT.get();
+        return trace == null ? NOOP : trace.open(name);
+    }
+
+    public static <T> T span(String name, Supplier<T> work) {
+        try (Scope ignored = open(name)) {
+            return work.get();
+        }
+    }
+
+    public static void span(String name, Runnable work) {
+        try (Scope ignored = open(name)) {
+            work.run();
+        }
+    }
+
+    public static Optional<String> currentTraceId() {
+        RequestTrace trace = CURRENT.get();
+        return trace == null ? Optional.empty() : Optional.of(trace.traceId());
+    }
+
+    static RequestTrace begin(String traceId) {
+        RequestTrace trace = new RequestTrace(traceId);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,49 @@
+package com.reliaquest.api.trace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * The Jackson converter with its reads and writes recorded as spans. Reading includes receiving the body, which is
+ * parsed while it arrives.
+ */
+public class TracingJacksonConverter extends MappingJackson2HttpMessageConverter {
+    private final String readSpan;
+    private final String writeSpan;
+
+    public TracingJacksonConverter(ObjectMapper objectMapper, String readSpan, String writeSpan) {
+        super(objectMapper);
+        this.readSpan = readSpan;
+        this.writeSpan = writeSpan;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        try (Traces.Scope ignored = Traces.open(readSpan)) {
+            return super.read(type, contextClass, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        try (Traces.Scope ignored = Traces.open(readSpan)) {
+            return super.readInternal(clazz, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        try (Traces.Scope ignored = Traces.open(writeSpan)) {
+            super.writeInternal(object, type, outputMessage);
+        }
+    }
+}
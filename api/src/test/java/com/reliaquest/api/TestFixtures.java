@@ -0,0 +1,66 @@
+package com.reliaquest.api;
+
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Test data and doubles shared across the test classes.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {}
+
+    public static Employee employee(String id, String name) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        employee.setName(name);
+        return employee;
+    }
+
+    public static Employee employee(String id, String name, int salary) {
+        Employee employee = employee(id, name);
+        employee.setSalary(salary);
+        return employee;
+    }
+
+    public static Employee employee(String id, String name, int salary, int age, String title) {
+        Employee employee = employee(id, name, salary);
+        employee.setAge(age);
+        employee.setTitle(title);
+        return employee;
+    }
+
+    /**
+     * A UTC clock that only moves when told to.
+     */
+    public static final class MutableClock extends Clock {
+        private Instant now;
+
+        public MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        public void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
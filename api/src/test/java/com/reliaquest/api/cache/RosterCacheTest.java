@@ -0,0 +1,461 @@
+package com.reliaquest.api.cache;
+
+import static com.reliaquest.api.TestFixtures.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.TestFixtures.MutableClock;
+import com.reliaquest.api.client.AsyncEmployeeApiClient;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.VersionedRoster;
+import com.reliaquest.api.exception.CircuitOpenException;
+import com.reliaquest.api.exception.RequestBudgetExhaustedException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.model.EmployeeChanges;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+public class RosterCacheTest {
+    @Mock
+    private EmployeeApiClient employeeApiClient;
+
+    @Mock
+    private AsyncEmployeeApiClient asyncEmployeeApiClient;
+
+    private MutableClock clock;
+
+    private RosterCache rosterCache;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        rosterCache = new RosterCache(
+                employeeApiClient,
+                asyncEmployeeApiClient,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(5),
+                clock,
+                List.of());
+    }
+
+    @Test
+    public void getEmployees_whenFresh_shouldNotCallUpstreamAgain() {
+        when(employeeApiClient.fetchRosterIfChanged(any())).thenReturn(roster(employee("1", "Tiger")));
+
+        rosterCache.getEmployees();
+        clock.advance(Duration.ofSeconds(10));
+        List<Employee> employees = rosterCache.getEmployees();
+
+        assertEquals(1, employees.size());
+        verify(employeeApiClient, times(1)).fetchRosterIfChanged(any());
+        verify(asyncEmployeeApiClient, times(0)).fetchRosterIfChanged(any());
+    }
+
+    @Test
+    public void getEmployees_whenCloseToExpiry_shouldServeCurrentAndRefreshOnce() {
+        CompletableFuture<Optional<VersionedRoster>> refresh = new CompletableFuture<>();
+        when(employeeApiClient.fetchRosterIfChanged(any())).thenReturn(roster(employee("1", "Tiger")));
+        when(asyncEmployeeApiClient.fetchRosterIfChanged(any())).thenReturn(refresh);
+
+        rosterCache.getEmployees();
+        clock.advance(Duration.ofSeconds(26));
+
+        assertEquals(1, rosterCache.getEmployees().size());
+        assertEquals(1, rosterCache.getEmployees().size());
+        verify(asyncEmployeeApiClient, times(1)).fetchRosterIfChanged(any());
+
+        refresh.complete(roster(employee("1", "Tiger"), employee("2", "Jane")));
+        assertEquals(2, rosterCache.getEmployees().size());
+    }
+
+    @Test
+    public void getEmployees_whenRefreshIsThrottled_shouldKeepServingStaleSnapshot() {
+        HttpClientErrorException throttled =
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null);
+        when(employeeApiClient.fetchRosterIfChanged(any()))
+                .thenReturn(roster(employee("1", "Tiger")))
+                .thenThrow(throttled);
+        when(asyncEmployeeApiClient.fetchRosterIfChanged(any())).thenReturn(CompletableFuture.failedFuture(throttled));
+
+        rosterCache.getEmployees();
+        clock.advance(Duration.ofMinutes(2));
+
+        assertEquals(1, rosterCache.getEmployees().size());
+        verify(asyncEmployeeApiClient, times(1)).fetchRosterIfChanged(any());
+
+        clock.advance(Duration.ofMinutes(10));
+        assertEquals(1, rosterCache.getEmployees().size());
+    }
+
+    @Test
+    public void putAndEvict_shouldUpdateSnapshotWithoutUpstreamCall() {
+        when(employeeApiClient.fetchRosterIfChanged(any())).thenReturn(roster(employee("1", "Tiger")));
+        rosterCache.getEmployees();
+
+        rosterCache.put(employee("2", "Jane"));
+        assertEquals(2, rosterCache.getEmployees().size());
+
+        rosterCache.evict("1");
+        List<Employee> employees = rosterCache.getEmployees();
+        assertEquals(1, employees.size());
+        assertEquals("Jane", employees.get(0).getName());
+        verify(employeeApiClient, times(1)).fetchRosterIfChanged(any());
+    }
+
+    @Test
+    public void putAndEvict_manyWrites_shouldKeepListAndLookupsInStep() {
+        when(employeeApiClient.fetchRosterIfChanged(any())).thenReturn(roster(employee("0", "Tiger")));
+        rosterCache.getEmployees();
+
+        for (int i = 1; i <= 100; i++) {
+            rosterCache.put(employee(String.valueOf(i), "Employee " + i));
+            if (i % 2 == 0) {
+                rosterCache.evict(String.valueOf(i - 1));
+            }
+            assertEquals("Employee " + i, rosterCache.findCached(String.valueOf(i)).orElseThrow().getName());
+        }
+        rosterCache.put(employee("0", "Tiger Nixon"));
+
+        List<Employee> employees = rosterCache.getEmployees();
+        assertEquals(51, employees.size());
+        assertEquals("Tiger Nixon", employees.get(0).getName());
+        assertEquals("Employee 10", employees.get(1).getName());
+        assertEquals("Employee 98", employees.get(50).getName());
+        assertTrue(rosterCache.findCached("99").isEmpty());
+        assertEquals("Tiger Nixon", rosterCache.findCached("0").orElseThrow().getName());
+        verify(employeeApiClient, times(1)).fetchRosterIfChanged(any());
+    }
+
+    @Test
+    public void bindTo_shouldCountHitsStaleHitsAndMisses() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        rosterCache.bindTo(meterRegistry);
+        when(employeeApiClient.fetchRosterIfChanged(any())).thenReturn(roster(employee("1", "Tiger")));
+        when(asyncEmployeeApiClient.fetchRosterIfChanged(any())).thenReturn(new CompletableFuture<>());
+
+        rosterCache.getEmployees();
+        rosterCache.getEmployees();
+        rosterCache.getEmployees();
+        clock.advance(Duration.ofMinutes(1));
+        rosterCache.getEmployees();
+
+        assertEquals(1.0, cacheRequests(meterRegistry, "miss"));
+        assertEquals(2.0, cacheRequests(meterRegistry, "hit"));
+        assertEquals(1.0, cacheRequests(meterRegistry, "stale"));
+    }
+
+    @Test
+    public void reloadOrLastGood_whenCircuitIsOpen_shouldServeLastSnapshot() {
+        when(employeeApiClient.fetchRosterIfChanged(any()))
+                .thenReturn(roster(employee("1", "Tiger")))
+                .thenThrow(new CircuitOpenException("open"));
+
+        rosterCache.reload();
+        RosterSnapshot snapshot = rosterCache.reloadOrLastGood();
+
+        assertEquals(1, snapshot.employees().size());
+        verify(employeeApiClient, times(2)).fetchRosterIfChanged(any());
+    }
+
+    @Test
+    public void reloadOrLastGood_whenThrottled_shouldServeLastSnapshot() {
+        when(employeeApiClient.fetchRosterIfChanged(any()))
+                .thenReturn(roster(employee("1", "Tiger")))
+                .thenThrow(new RequestBudgetExhaustedException("No permit"))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null));
+
+        when(asyncEmployeeApiClient.fetchRosterIfChanged(any()))
+                .thenReturn(CompletableFuture.failedFuture(new RequestBudgetExhaustedException("No permit")));
+
+        rosterCache.reload();
+
+        assertEquals(1, rosterCache.reloadOrLastGood().employees().size());
+        assertEquals(1, rosterCache.reloadOrLastGood().employees().size());
+        assertEquals(1, rosterCache.reloadOrLastGoodAsync().join().employees().size());
+    }
+
+    @Test
+    public void reloadOrLastGood_whenCircuitIsOpenAndCacheIsCold_shouldRethrow() {
+        when(employeeApiClient.fetchRosterIfChanged(any())).thenThrow(new CircuitOpenException("open"));
+
+        assertThrows(CircuitOpenException.class, rosterCache::reloadOrLastGood);
+    }
+
+    @Test
+    public void findCached_shouldLookUpCurrentSnapshotWithoutLoading() {
+        assertTrue(rosterCache.findCached("1").isEmpty());
+        verify(employeeApiClient, times(0)).fetchRosterIfChanged(any());
+
+        when(employeeApiClient.fetchRosterIfChanged(any())).thenReturn(roster(employee("1", "Tiger")));
+        rosterCache.reload();
+        clock.advance(Duration.ofHours(1));
+
+        assertEquals("Tiger", rosterCache.findCached("1").orElseThrow().getName());
+        assertTrue(rosterCache.findCached("2").isEmpty());
+        verify(employeeApiClient, times(1)).fetchRosterIfChanged(any());
+    }
+
+    @Test
+    public void reload_whenUpstreamAnswersNotModified_shouldKeepSnapshotWithoutNotifyingListeners() {
+        RosterListener listener = mock(RosterListener.class);
+        rosterCache = new RosterCache(
+                employeeApiClient,
+                asyncEmployeeApiClient,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(5),
+                clock,
+                List.of(listener));
+        when(employeeApiClient.fetchRosterIfChanged(null))
+                .thenReturn(Optional.of(new VersionedRoster(List.of(employee("1", "Tiger")), "v1")));
+        when(employeeApiClient.fetchRosterIfChanged("v1")).thenReturn(Optional.empty());
+
+        RosterSnapshot first = rosterCache.reload();
+        clock.advance(Duration.ofMinutes(1));
+        RosterSnapshot revalidated = rosterCache.reload();
+
+        assertSame(first.employees(), revalidated.employees());
+        assertEquals("v1", revalidated.version());
+        assertEquals(Duration.ZERO, revalidated.age(clock));
+        verify(listener, times(1)).onReplace(any());
+        verify(employeeApiClient, times(1)).fetchRosterIfChanged("v1");
+    }
+
+    @Test
+    public void reload_afterLocalWriteWithoutChangeLog_shouldStillSendLastUpstreamVersion() {
+        when(employeeApiClient.fetchRosterIfChanged(null))
+                .thenReturn(Optional.of(new VersionedRoster(List.of(employee("1", "Tiger")), "v1")));
+        when(employeeApiClient.fetchRosterIfChanged("v1"))
+                .thenReturn(Optional.of(new VersionedRoster(
+                        List.of(employee("1", "Tiger"), employee("2", "Jane")), "v2")));
+
+        rosterCache.reload();
+        rosterCache.put(employee("2", "Jane"));
+        RosterSnapshot reloaded = rosterCache.reload();
+
+        assertEquals("v2", reloaded.version());
+        assertEquals(2, reloaded.employees().size());
+        verify(employeeApiClient, times(1)).fetchRosterIfChanged("v1");
+    }
+
+    @Test
+    public void reload_withVersion_shouldApplyChangesToSnapshotAndListeners() {
+        RosterListener listener = mock(RosterListener.class);
+        rosterCache = new RosterCache(
+                employeeApiClient,
+                asyncEmployeeApiClient,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(5),
+                clock,
+                List.of(listener));
+        Employee jane = employee("2", "Jane");
+        Employee ana = employee("3", "Ana");
+        Employee temp = employee("4", "Temp");
+        when(employeeApiClient.fetchRosterIfChanged(null))
+                .thenReturn(Optional.of(new VersionedRoster(List.of(employee("1", "Tiger"), jane), "v1")));
+        when(employeeApiClient.fetchChangesSince("v1"))
+                .thenReturn(Optional.of(new EmployeeChanges(
+                        "v5",
+                        List.of(
+                                new EmployeeChange(2, EmployeeChange.Type.CREATED, ana),
+                                new EmployeeChange(3, EmployeeChange.Type.DELETED, employee("2", "Jane")),
+                                new EmployeeChange(4, EmployeeChange.Type.CREATED, temp),
+                                new EmployeeChange(5, EmployeeChange.Type.DELETED, temp)))));
+
+        rosterCache.reload();
+        clock.advance(Duration.ofMinutes(1));
+        RosterSnapshot synced = rosterCache.reload();
+
+        assertEquals(List.of("Tiger", "Ana"), names(synced.employees()));
+        assertEquals("v5", synced.version());
+        assertEquals(Duration.ZERO, synced.age(clock));
+        verify(listener, times(1)).onReplace(any());
+        verify(listener).onPut(ana);
+        verify(listener).onEvict(jane);
+        verify(listener).onPut(temp);
+        verify(listener).onEvict(temp);
+        verify(employeeApiClient, never()).fetchRosterIfChanged("v1");
+    }
+
+    @Test
+    public void reloadAsync_whenChangesAreNoLongerAvailable_shouldReadFullRoster() {
+        when(employeeApiClient.fetchRosterIfChanged(null))
+                .thenReturn(Optional.of(new VersionedRoster(List.of(employee("1", "Tiger")), "v1")));
+        when(asyncEmployeeApiClient.fetchChangesSince("v1"))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(asyncEmployeeApiClient.fetchRosterIfChanged("v1"))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(
+                        new VersionedRoster(List.of(employee("1", "Tiger"), employee("2", "Jane")), "v9"))));
+
+        rosterCache.reload();
+        RosterSnapshot reloaded = rosterCache.reloadAsync().join();
+
+        assertEquals(2, reloaded.employees().size());
+        assertEquals("v9", reloaded.version());
+    }
+
+    @Test
+    public void applyPushed_shouldApplyNextChangeAndIgnoreOnesAlreadySeen() {
+        Employee ana = employee("2", "Ana");
+        when(employeeApiClient.fetchRosterIfChanged(null))
+                .thenReturn(Optional.of(new VersionedRoster(List.of(employee("1", "Tiger")), "1700-4")));
+        rosterCache.reload();
+
+        rosterCache.applyPushed("1700-4", new EmployeeChange(4, EmployeeChange.Type.CREATED, employee("9", "Old")));
+        rosterCache.applyPushed("1700-5", new EmployeeChange(5, EmployeeChange.Type.CREATED, ana));
+        rosterCache.applyPushed("1700-5", new EmployeeChange(5, EmployeeChange.Type.CREATED, ana));
+
+        assertEquals(List.of("Tiger", "Ana"), names(rosterCache.getEmployees()));
+        assertEquals("1700-5", rosterCache.currentVersion());
+        verify(asyncEmployeeApiClient, never()).fetchChangesSince(any());
+    }
+
+    @Test
+    public void applyPushed_whenCreateWasAlreadyPutLocally_shouldNotNotifyListenersAgain() {
+        RosterListener listener = mock(RosterListener.class);
+        rosterCache = new RosterCache(
+                employeeApiClient,
+                asyncEmployeeApiClient,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(5),
+                clock,
+                List.of(listener));
+        when(employeeApiClient.fetchRosterIfChanged(null))
+                .thenReturn(Optional.of(new VersionedRoster(
+                        List.of(employee("1", "Tiger"), employee("2", "Jane")), "1700-4")));
+        rosterCache.reload();
+        Employee ana = employee("3", "Ana");
+
+        rosterCache.put(ana);
+        rosterCache.applyPushed("1700-5", new EmployeeChange(5, EmployeeChange.Type.CREATED, employee("3", "Ana")));
+
+        assertEquals(List.of("Tiger", "Jane", "Ana"), names(rosterCache.getEmployees()));
+        assertEquals("1700-5", rosterCache.currentVersion());
+        verify(listener, times(1)).onPut(any());
+    }
+
+    @Test
+    public void putAndApplyPushed_shouldKeepTheUpstreamIdOrder() {
+        Employee tiger = employee("1d6f3419-6bc9-4090-9f5c-64328d0dfe5a", "Tiger");
+        Employee jane = employee("5b0c2f4e-2a8b-4a53-a6e2-0b7d2d8f4c11", "Jane");
+        Employee john = employee("c3a1e8d2-7f4b-4e0a-9b6d-2e5f8a1c7d30", "John");
+        Employee ana = employee("3e9b7c1a-4d2f-4b8e-8a6c-5f1d0e2b9a47", "Ana");
+        Employee bill = employee("0a4c6e8f-1b3d-4f5a-9c7e-2d4f6a8b0c12", "Bill");
+        List<Employee> upstream = new ArrayList<>(List.of(tiger, jane, john));
+        upstream.sort(Comparator.comparing(employee -> UUID.fromString(employee.getId())));
+        when(employeeApiClient.fetchRosterIfChanged(null))
+                .thenReturn(Optional.of(new VersionedRoster(List.copyOf(upstream), "1700-4")));
+        rosterCache.reload();
+
+        rosterCache.put(ana);
+        rosterCache.applyPushed("1700-5", new EmployeeChange(5, EmployeeChange.Type.CREATED, bill));
+
+        upstream.addAll(List.of(ana, bill));
+        upstream.sort(Comparator.comparing(employee -> UUID.fromString(employee.getId())));
+        assertEquals(names(upstream), names(rosterCache.getEmployees()));
+    }
+
+    @Test
+    public void applyPushed_whenChangesWereMissed_shouldCatchUpFromUpstream() {
+        when(employeeApiClient.fetchRosterIfChanged(null))
+                .thenReturn(Optional.of(new VersionedRoster(List.of(employee("1", "Tiger")), "1700-4")));
+        when(asyncEmployeeApiClient.fetchChangesSince("1700-4"))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(new EmployeeChanges(
+                        "1700-6",
+                        List.of(
+                                new EmployeeChange(5, EmployeeChange.Type.CREATED, employee("2", "Ana")),
+                                new EmployeeChange(6, EmployeeChange.Type.CREATED, employee("3", "Jane")))))));
+        rosterCache.reload();
+
+        rosterCache.applyPushed("1700-6", new EmployeeChange(6, EmployeeChange.Type.CREATED, employee("3", "Jane")));
+
+        assertEquals(List.of("Tiger", "Ana", "Jane"), names(rosterCache.getEmployees()));
+        assertEquals("1700-6", rosterCache.currentVersion());
+    }
+
+    @Test
+    public void getEmployees_whilePushIsConnected_shouldServeSnapshotWhateverItsAge() {
+        when(employeeApiClient.fetchRosterIfChanged(null))
+                .thenReturn(Optional.of(new VersionedRoster(List.of(employee("1", "Tiger")), "1700-1")));
+        rosterCache.reload();
+        rosterCache.pushConnected();
+
+        clock.advance(Duration.ofHours(1));
+        assertEquals(1, rosterCache.getEmployees().size());
+        assertTrue(rosterCache.getFreshSnapshot().isPresent());
+
+        rosterCache.pushDisconnected();
+        assertTrue(rosterCache.getFreshSnapshot().isEmpty());
+        verify(employeeApiClient, times(1)).fetchRosterIfChanged(any());
+        verify(asyncEmployeeApiClient, never()).fetchChangesSince(any());
+    }
+
+    @Test
+    public void getSnapshotAsync_whenCold_shouldCompleteWithSharedLoad() {
+        CompletableFuture<Optional<VersionedRoster>> load = new CompletableFuture<>();
+        when(asyncEmployeeApiClient.fetchRosterIfChanged(null)).thenReturn(load);
+
+        CompletableFuture<RosterSnapshot> first = rosterCache.getSnapshotAsync();
+        CompletableFuture<RosterSnapshot> second = rosterCache.getSnapshotAsync();
+        load.complete(roster(employee("1", "Tiger")));
+
+        assertEquals(1, first.join().employees().size());
+        assertSame(first.join(), second.join());
+        verify(asyncEmployeeApiClient, times(1)).fetchRosterIfChanged(null);
+        verify(employeeApiClient, never()).fetchRosterIfChanged(any());
+    }
+
+    @Test
+    public void getSnapshotAsync_whenExpiredAndUpstreamThrottles_shouldServeStaleSnapshot() {
+        when(employeeApiClient.fetchRosterIfChanged(any())).thenReturn(roster(employee("1", "Tiger")));
+        RosterSnapshot loaded = rosterCache.reload();
+        clock.advance(Duration.ofMinutes(10));
+        when(asyncEmployeeApiClient.fetchRosterIfChanged(any()))
+                .thenReturn(CompletableFuture.failedFuture(
+                        HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null)));
+
+        assertSame(loaded, rosterCache.getSnapshotAsync().join());
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getName).toList();
+    }
+
+    private static Optional<VersionedRoster> roster(Employee... employees) {
+        return Optional.of(new VersionedRoster(List.of(employees), null));
+    }
+
+    private static double cacheRequests(SimpleMeterRegistry meterRegistry, String result) {
+        return meterRegistry
+                .get("roster.cache.requests")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.EmployeeChange;
+import com.reliaquest.api.stream.ServerSentEventReader;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+public class RosterPushSubscriberTest {
+    @Mock
+    private RosterCache rosterCache;
+
+    private RosterPushSubscriber subscriber;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        subscriber = new RosterPushSubscriber(
+                new RestTemplateBuilder(),
+                "http://localhost:8112/api/v1/employee",
+                rosterCache,
+                new ObjectMapper(),
+                true,
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(45));
+    }
+
+    @Test
+    public void handle_changeEvent_shouldApplyItToTheCache() {
+        subscriber.handle(new ServerSentEventReader.Event(
+                "1700-5",
+                RosterPushSubscriber.CHANGE_EVENT,
+                """
+                {"sequence": 5, "type": "CREATED", "employee": {"id": "2", "employee_name": "Ana"}}"""));
+
+        ArgumentCaptor<EmployeeChange> change = ArgumentCaptor.forClass(EmployeeChange.class);
+        verify(rosterCache).applyPushed(eq("1700-5"), change.capture());
+        assertEquals(5, change.getValue().sequence());
+        assertEquals(EmployeeChange.Type.CREATED, change.getValue().type());
+        assertEquals("Ana", change.getValue().employee().getName());
+    }
+
+    @Test
+    public void handle_unreadableChange_shouldBeIgnored() {
+        subscriber.handle(new ServerSentEventReader.Event("1700-5", RosterPushSubscriber.CHANGE_EVENT, "{not json"));
+
+        verify(rosterCache, never()).applyPushed(any(), any());
+    }
+
+    @Test
+    public void handle_resetEvent_shouldReloadTheCache() {
+        when(rosterCache.reloadAsync()).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("down")));
+
+        subscriber.handle(new ServerSentEventReader.Event(null, RosterPushSubscriber.RESET_EVENT, "1800-0"));
+
+        verify(rosterCache).reloadAsync();
+        verify(rosterCache, never()).applyPushed(any(), any());
+    }
+}
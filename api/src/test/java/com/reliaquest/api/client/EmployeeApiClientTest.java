@@ -0,0 +1,184 @@
+package com.reliaquest.api.client;
+
+import static com.reliaquest.api.TestFixtures.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+public class EmployeeApiClientTest {
+    private static final String MOCK_API_URL = "http://localhost:8112/api/v1/employee";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private EmployeeApiClient employeeApiClient;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        UpstreamMetrics upstreamMetrics = new UpstreamMetrics(new SimpleMeterRegistry());
+        UpstreamRetry upstreamRetry = new UpstreamRetry(
+                UpstreamRetry.Mode.BLOCKING, 1, 0, 0, Runnable::run, Clock.systemUTC(), upstreamMetrics);
+        UpstreamRateLimiter upstreamRateLimiter = new UpstreamRateLimiter(
+                false,
+                5,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(120),
+                Duration.ofSeconds(2),
+                Clock.systemUTC());
+        UpstreamCircuitBreaker upstreamCircuitBreaker =
+                new UpstreamCircuitBreaker(false, 20, 10, 50, Duration.ofSeconds(30), 2, Clock.systemUTC());
+        employeeApiClient = new EmployeeApiClient(
+                restTemplate,
+                MOCK_API_URL,
+                upstreamRetry,
+                upstreamRateLimiter,
+                upstreamCircuitBreaker,
+                upstreamMetrics,
+                0);
+    }
+
+    @Test
+    public void fetchAllEmployees_shouldReturnRoster() {
+        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
+        apiResponse.setData(Collections.singletonList(employee("1", "Tiger")));
+        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(apiResponse));
+
+        List<Employee> employees = employeeApiClient.fetchAllEmployees();
+
+        assertEquals(1, employees.size());
+        assertEquals("Tiger", employees.get(0).getName());
+    }
+
+    @Test
+    public void fetchAllEmployees_whenApiFails_shouldThrowException() {
+        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        assertThrows(HttpClientErrorException.class, () -> employeeApiClient.fetchAllEmployees());
+    }
+
+    @Test
+    public void fetchEmployeeById_shouldReturnEmployee() {
+        ApiResponse<Employee> apiResponse = new ApiResponse<>();
+        apiResponse.setData(employee("1", "Tiger"));
+        when(restTemplate.exchange(
+                        eq(MOCK_API_URL + "/1"), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(apiResponse));
+
+        assertEquals("1", employeeApiClient.fetchEmployeeById("1").getId());
+    }
+
+    @Test
+    public void fetchEmployeeById_whenNotFound_shouldReturnNull() {
+        when(restTemplate.exchange(
+                        eq(MOCK_API_URL + "/99"), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        assertNull(employeeApiClient.fetchEmployeeById("99"));
+    }
+
+    @Test
+    public void createEmployee_shouldReturnCreatedEmployee() {
+        ApiResponse<Employee> apiResponse = new ApiResponse<>();
+        apiResponse.setData(employee("1", "John Doe", 50000));
+        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.POST), any(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(apiResponse));
+
+        assertEquals("John Doe", employeeApiClient.createEmployee(new EmployeeInput()).getName());
+    }
+
+    @Test
+    public void createEmployee_whenApiFails_shouldThrowException() {
+        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.POST), any(), any(ParameterizedTypeReference.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        assertThrows(HttpClientErrorException.class, () -> employeeApiClient.createEmployee(new EmployeeInput()));
+    }
+
+    @Test
+    public void deleteEmployeeByName_shouldReportUpstreamAnswer() {
+        ApiResponse<Boolean> deleted = new ApiResponse<>();
+        deleted.setData(true);
+        ApiResponse<Boolean> notDeleted = new ApiResponse<>();
+        notDeleted.setData(false);
+        when(restTemplate.exchange(
+                        eq(MOCK_API_URL), eq(HttpMethod.DELETE), any(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(deleted))
+                .thenReturn(ResponseEntity.ok(notDeleted));
+
+        assertTrue(employeeApiClient.deleteEmployeeByName("Tiger", ignored -> {}));
+        assertFalse(employeeApiClient.deleteEmployeeByName("Tiger", ignored -> {}));
+    }
+
+    @Test
+    public void deleteEmployeeByName_whenApiFails_shouldThrowException() {
+        when(restTemplate.exchange(
+                        eq(MOCK_API_URL), eq(HttpMethod.DELETE), any(), any(ParameterizedTypeReference.class)))
+                .thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        assertThrows(
+                HttpClientErrorException.class, () -> employeeApiClient.deleteEmployeeByName("Tiger", ignored -> {}));
+    }
+
+    @Test
+    public void fetchRosterIfChanged_shouldSendVersionAsEtagAndReportNotModifiedAsEmpty() {
+        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        assertTrue(employeeApiClient.fetchRosterIfChanged("1-20").isEmpty());
+
+        ArgumentCaptor<HttpEntity<?>> request = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(restTemplate)
+                .exchange(
+                        eq(MOCK_API_URL),
+                        eq(HttpMethod.GET),
+                        request.capture(),
+                        any(ParameterizedTypeReference.class));
+        assertEquals(List.of("\"1-20\""), request.getValue().getHeaders().getIfNoneMatch());
+    }
+
+    @Test
+    public void fetchRosterIfChanged_whenRosterChanged_shouldReturnItWithNewVersion() {
+        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
+        apiResponse.setData(List.of(new Employee()));
+        ResponseEntity<ApiResponse<List<Employee>>> responseEntity =
+                ResponseEntity.ok().eTag("\"1-21\"").body(apiResponse);
+        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
+                .thenReturn(responseEntity);
+
+        VersionedRoster roster = employeeApiClient.fetchRosterIfChanged("1-20").orElseThrow();
+
+        assertEquals(1, roster.employees().size());
+        assertEquals("1-21", roster.version());
+    }
+}
@@ -0,0 +1,99 @@
+package com.reliaquest.api.client;
+
+import static com.reliaquest.api.TestFixtures.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+public class EmployeePageIteratorTest {
+    @Mock
+    private EmployeeApiClient employeeApiClient;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void iterator_shouldNotFetchUntilFirstHasNext() {
+        new EmployeePageIterator(employeeApiClient, 2);
+
+        verify(employeeApiClient, never()).fetchEmployeePage(any(), anyInt());
+        verify(employeeApiClient, never()).fetchEmployeePageAsync(any(), anyInt());
+    }
+
+    @Test
+    public void iterator_shouldWalkAllPagesInOrder() {
+        when(employeeApiClient.fetchEmployeePage(null, 2))
+                .thenReturn(List.of(employee("1", "Tiger"), employee("2", "Jack")));
+        when(employeeApiClient.fetchEmployeePageAsync("2", 2))
+                .thenReturn(CompletableFuture.completedFuture(List.of(employee("3", "Jill"), employee("4", "Bill"))));
+        when(employeeApiClient.fetchEmployeePageAsync("4", 2))
+                .thenReturn(CompletableFuture.completedFuture(List.of(employee("5", "Ann"))));
+
+        List<String> ids = new ArrayList<>();
+        new EmployeePageIterator(employeeApiClient, 2).forEachRemaining(employee -> ids.add(employee.getId()));
+
+        assertEquals(List.of("1", "2", "3", "4", "5"), ids);
+    }
+
+    @Test
+    public void iterator_shouldRequestNextPageBeforeCurrentPageIsConsumed() {
+        when(employeeApiClient.fetchEmployeePage(null, 2))
+                .thenReturn(List.of(employee("1", "Tiger"), employee("2", "Jack")));
+        when(employeeApiClient.fetchEmployeePageAsync("2", 2)).thenReturn(new CompletableFuture<>());
+
+        EmployeePageIterator iterator = new EmployeePageIterator(employeeApiClient, 2);
+        assertEquals("1", iterator.next().getId());
+
+        InOrder calls = inOrder(employeeApiClient);
+        calls.verify(employeeApiClient).fetchEmployeePage(null, 2);
+        calls.verify(employeeApiClient).fetchEmployeePageAsync("2", 2);
+    }
+
+    @Test
+    public void iterator_whenFullPageIsFollowedByEmptyPage_shouldEnd() {
+        when(employeeApiClient.fetchEmployeePage(null, 1)).thenReturn(List.of(employee("1", "Tiger")));
+        when(employeeApiClient.fetchEmployeePageAsync("1", 1)).thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        EmployeePageIterator iterator = new EmployeePageIterator(employeeApiClient, 1);
+        assertEquals("1", iterator.next().getId());
+
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        verify(employeeApiClient, times(1)).fetchEmployeePageAsync(anyString(), anyInt());
+    }
+
+    @Test
+    public void iterator_whenPrefetchFails_shouldRethrowUpstreamException() {
+        when(employeeApiClient.fetchEmployeePage(null, 1)).thenReturn(List.of(employee("1", "Tiger")));
+        HttpClientErrorException throttled =
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null);
+        when(employeeApiClient.fetchEmployeePageAsync("1", 1)).thenReturn(CompletableFuture.failedFuture(throttled));
+
+        EmployeePageIterator iterator = new EmployeePageIterator(employeeApiClient, 1);
+        iterator.next();
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, iterator::hasNext);
+    }
+}
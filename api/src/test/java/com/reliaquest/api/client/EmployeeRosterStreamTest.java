@@ -0,0 +1,113 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+public class EmployeeRosterStreamTest {
+    private static final String MOCK_API_URL = "http://localhost:8112/api/v1/employee";
+    private static final String ROSTER = """
+            {"data": [{"id": "1", "employee_name": "Tiger"}, {"id": "2", "employee_name": "Jack"}], "status": "ok"}
+            """;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private UpstreamRetry upstreamRetry;
+
+    private EmployeeRosterStream employeeRosterStream;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        UpstreamMetrics upstreamMetrics = new UpstreamMetrics(new SimpleMeterRegistry());
+        upstreamRetry = new UpstreamRetry(
+                UpstreamRetry.Mode.ASYNC,
+                3,
+                1,
+                10,
+                ForkJoinPool.commonPool(),
+                Clock.systemUTC(),
+                upstreamMetrics);
+        employeeRosterStream = new EmployeeRosterStream(
+                restTemplate,
+                MOCK_API_URL,
+                upstreamRetry,
+                new UpstreamRateLimiter(
+                        false,
+                        5,
+                        Duration.ofSeconds(30),
+                        Duration.ofSeconds(1),
+                        Duration.ofSeconds(120),
+                        Duration.ofSeconds(2),
+                        Clock.systemUTC()),
+                new UpstreamCircuitBreaker(false, 20, 10, 50, Duration.ofSeconds(30), 2, Clock.systemUTC()),
+                upstreamMetrics,
+                new ObjectMapper());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        upstreamRetry.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void visit_inAsyncRetryMode_shouldRetryAndReadOnCallerThreadPastAwaitTimeout() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        ClientHttpResponse response = mock(ClientHttpResponse.class);
+        when(response.getBody()).thenReturn(new ByteArrayInputStream(ROSTER.getBytes(StandardCharsets.UTF_8)));
+        when(restTemplate.execute(eq(MOCK_API_URL), eq(HttpMethod.GET), any(), any(ResponseExtractor.class)))
+                .thenAnswer(invocation -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null);
+                    }
+                    ResponseExtractor<Integer> extractor = invocation.getArgument(3);
+                    return extractor.extractData(response);
+                });
+        Thread caller = Thread.currentThread();
+        List<String> visited = new ArrayList<>();
+
+        employeeRosterStream.visit(employee -> {
+            assertEquals(caller, Thread.currentThread());
+            sleep(100);
+            visited.add(employee.getId());
+            return true;
+        });
+
+        assertEquals(2, attempts.get());
+        assertEquals(List.of("1", "2"), visited);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class SingleFlightTest {
+    private static final int CALLERS = 16;
+
+    @Test
+    public void execute_whenCalledConcurrently_shouldShareOneCall() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch arrived = new CountDownLatch(CALLERS);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    arrived.countDown();
+                    return singleFlight.execute("roster", () -> {
+                        invocations.incrementAndGet();
+                        await(release);
+                        return 42;
+                    });
+                }));
+            }
+            arrived.await(5, TimeUnit.SECONDS);
+            TimeUnit.MILLISECONDS.sleep(200);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(42, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, invocations.get());
+            assertEquals(0, singleFlight.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void execute_whenCallFails_shouldPropagateAndReleaseKey() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        IllegalStateException thrown = assertThrows(
+                IllegalStateException.class, () -> singleFlight.execute("roster", () -> {
+                    throw failure;
+                }));
+
+        assertSame(failure, thrown);
+        assertEquals(7, singleFlight.execute("roster", () -> 7));
+    }
+
+    @Test
+    public void execute_withDifferentKeys_shouldNotShareCalls() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        assertEquals("a", singleFlight.execute("1", () -> "a"));
+        assertEquals("b", singleFlight.execute("2", () -> "b"));
+        assertTrue(singleFlight.inFlightCount() == 0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
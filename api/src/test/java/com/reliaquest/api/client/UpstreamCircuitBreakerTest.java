@@ -0,0 +1,217 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.api.TestFixtures.MutableClock;
+import com.reliaquest.api.exception.CircuitOpenException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+public class UpstreamCircuitBreakerTest {
+    private MutableClock clock;
+
+    private UpstreamCircuitBreaker breaker;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        breaker = new UpstreamCircuitBreaker(true, 4, 4, 50, Duration.ofSeconds(30), 2, clock);
+    }
+
+    @Test
+    public void call_whenFailureRateReachesThreshold_shouldOpenCircuit() {
+        succeed();
+        fail();
+        succeed();
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.state());
+
+        fail();
+
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    public void call_beforeMinimumCalls_shouldStayClosed() {
+        fail();
+        fail();
+        fail();
+
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void call_shouldOnlyCountCallsInTheWindow() {
+        for (int i = 0; i < 6; i++) {
+            succeed();
+        }
+        fail();
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.state());
+
+        // two of the last four calls failed, although only two of all eight did
+        fail();
+
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    public void call_whenOpen_shouldRejectWithoutCallingUpstream() {
+        openCircuit();
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(CircuitOpenException.class, () -> breaker.call("test", calls::incrementAndGet));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void call_whenTrialCallsSucceed_shouldClose() {
+        openCircuit();
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals(UpstreamCircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        succeed();
+        assertEquals(UpstreamCircuitBreaker.State.HALF_OPEN, breaker.state());
+        succeed();
+
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void call_whenTrialCallFails_shouldOpenAgain() {
+        openCircuit();
+        clock.advance(Duration.ofSeconds(30));
+
+        fail();
+
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.state());
+        assertThrows(CircuitOpenException.class, () -> breaker.call("test", () -> "ok"));
+    }
+
+    @Test
+    public void acquirePermission_whenHalfOpen_shouldLimitTrialCalls() {
+        openCircuit();
+        clock.advance(Duration.ofSeconds(30));
+
+        breaker.acquirePermission("test");
+        breaker.acquirePermission("test");
+
+        assertThrows(CircuitOpenException.class, () -> breaker.acquirePermission("test"));
+    }
+
+    @Test
+    public void call_whenTrialCallIsRejectedLocally_shouldReleaseItsPermit() {
+        openCircuit();
+        clock.advance(Duration.ofSeconds(30));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(TooManyRequestsException.class, () -> breaker.call("test", () -> {
+                throw new TooManyRequestsException("local");
+            }));
+        }
+        succeed();
+        succeed();
+
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void call_whenUpstreamAnswersNotFound_shouldCountAsSuccess() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpClientErrorException.class, () -> breaker.call("test", () -> {
+                throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "", null, null, null);
+            }));
+        }
+
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void call_whenDisabled_shouldPassThrough() {
+        breaker = new UpstreamCircuitBreaker(false, 4, 4, 50, Duration.ofSeconds(30), 2, clock);
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+
+        assertEquals("ok", breaker.call("test", () -> "ok"));
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    public void callAsync_shouldRecordOutcomeWhenFutureCompletes() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        for (int i = 0; i < 3; i++) {
+            fail();
+        }
+
+        CompletableFuture<String> result = breaker.callAsync("test", () -> pending);
+        assertEquals(UpstreamCircuitBreaker.State.CLOSED, breaker.state());
+        pending.completeExceptionally(
+                HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "", null, null, null));
+
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    public void callAsync_whenOpen_shouldReturnFailedFutureWithoutCallingUpstream() {
+        openCircuit();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<Integer> result =
+                breaker.callAsync("test", () -> CompletableFuture.completedFuture(calls.incrementAndGet()));
+
+        CompletionException error = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(CircuitOpenException.class, error.getCause());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void bindTo_shouldPublishCurrentStateAsGauge() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        breaker.bindTo(meterRegistry);
+
+        openCircuit();
+
+        assertEquals(1.0, stateGauge(meterRegistry, UpstreamCircuitBreaker.State.OPEN));
+        assertEquals(0.0, stateGauge(meterRegistry, UpstreamCircuitBreaker.State.CLOSED));
+        clock.advance(Duration.ofSeconds(30));
+        assertEquals(1.0, stateGauge(meterRegistry, UpstreamCircuitBreaker.State.HALF_OPEN));
+    }
+
+    private static double stateGauge(SimpleMeterRegistry meterRegistry, UpstreamCircuitBreaker.State state) {
+        return meterRegistry
+                .get("employee.upstream.circuit.state")
+                .tag("state", state.name())
+                .gauge()
+                .value();
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertEquals(UpstreamCircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    private void succeed() {
+        breaker.call("test", () -> "ok");
+    }
+
+    private void fail() {
+        assertThrows(HttpServerErrorException.class, () -> breaker.call("test", () -> {
+            throw HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "", null, null, null);
+        }));
+    }
+}
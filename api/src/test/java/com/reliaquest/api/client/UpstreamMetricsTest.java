@@ -0,0 +1,91 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+public class UpstreamMetricsTest {
+    private SimpleMeterRegistry meterRegistry;
+
+    private UpstreamMetrics upstreamMetrics;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        upstreamMetrics = new UpstreamMetrics(meterRegistry);
+    }
+
+    @Test
+    public void timed_shouldRecordLatencyPerOperationAndStatus() {
+        assertEquals("ok", upstreamMetrics.timed("fetchAllEmployees", () -> "ok"));
+        assertThrows(HttpClientErrorException.class, () -> upstreamMetrics.timed("fetchAllEmployees", () -> {
+            throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "", null, null, null);
+        }));
+        assertThrows(ResourceAccessException.class, () -> upstreamMetrics.timed("fetchAllEmployees", () -> {
+            throw new ResourceAccessException("refused", new IOException("refused"));
+        }));
+
+        assertEquals(1, requests("fetchAllEmployees", "OK"));
+        assertEquals(1, requests("fetchAllEmployees", "404"));
+        assertEquals(1, requests("fetchAllEmployees", "IO_ERROR"));
+        assertEquals(0, meterRegistry.find(UpstreamMetrics.THROTTLED).counters().size());
+    }
+
+    @Test
+    public void timed_whenThrottled_shouldCountTooManyRequestsAndServiceUnavailable() {
+        assertThrows(HttpClientErrorException.class, () -> upstreamMetrics.timed("createEmployee", () -> {
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null);
+        }));
+        assertThrows(HttpServerErrorException.class, () -> upstreamMetrics.timed("createEmployee", () -> {
+            throw HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "", null, null, null);
+        }));
+
+        assertEquals(1.0, throttled("createEmployee", "429"));
+        assertEquals(1.0, throttled("createEmployee", "503"));
+        assertEquals(1, requests("createEmployee", "429"));
+    }
+
+    @Test
+    public void timedAsync_shouldRecordStatusWhenFutureCompletes() {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        CompletableFuture<String> result = upstreamMetrics.timedAsync("fetchEmployeeById", () -> pending);
+        assertEquals(0, meterRegistry.find(UpstreamMetrics.REQUESTS).timers().size());
+        pending.completeExceptionally(
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null));
+        upstreamMetrics.timedAsync("fetchEmployeeById", () -> CompletableFuture.completedFuture("ok"));
+
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(1, requests("fetchEmployeeById", "429"));
+        assertEquals(1, requests("fetchEmployeeById", "OK"));
+        assertEquals(1.0, throttled("fetchEmployeeById", "429"));
+    }
+
+    private long requests(String operation, String status) {
+        return meterRegistry
+                .get(UpstreamMetrics.REQUESTS)
+                .tag("operation", operation)
+                .tag("status", status)
+                .timer()
+                .count();
+    }
+
+    private double throttled(String operation, String status) {
+        return meterRegistry
+                .get(UpstreamMetrics.THROTTLED)
+                .tag("operation", operation)
+                .tag("status", status)
+                .counter()
+                .count();
+    }
+}
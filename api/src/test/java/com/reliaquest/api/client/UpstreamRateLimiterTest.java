@@ -0,0 +1,203 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.TestFixtures.MutableClock;
+import com.reliaquest.api.exception.RequestBudgetExhaustedException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+public class UpstreamRateLimiterTest {
+    private MutableClock clock;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    }
+
+    @Test
+    public void reserve_shouldAllowBurstOfBudgetThenQueueAtRefillRate() {
+        UpstreamRateLimiter limiter = limiter(Duration.ofSeconds(10));
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.reserve());
+        }
+        // 5 permits per 30 s cool-down: one permit every 6 s
+        assertEquals(6_000, limiter.reserve());
+        assertEquals(-1, limiter.reserve());
+    }
+
+    @Test
+    public void reserve_whenWaitExceedsMaxWait_shouldRejectWithoutReserving() {
+        UpstreamRateLimiter limiter = limiter(Duration.ofSeconds(2));
+        for (int i = 0; i < 5; i++) {
+            limiter.reserve();
+        }
+
+        assertEquals(-1, limiter.reserve());
+        clock.advance(Duration.ofSeconds(6));
+        assertEquals(0, limiter.reserve());
+    }
+
+    @Test
+    public void onThrottled_shouldBlockForCoolDownAndHalveBudget() {
+        UpstreamRateLimiter limiter = limiter(Duration.ofSeconds(2));
+
+        limiter.onThrottled(Optional.empty());
+
+        assertEquals(2.5, limiter.budget(), 0.001);
+        assertEquals(-1, limiter.reserve());
+        clock.advance(Duration.ofSeconds(29));
+        assertEquals(1_000, limiter.reserve());
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(0, limiter.reserve());
+    }
+
+    @Test
+    public void onThrottled_withRetryAfter_shouldUseItAsCoolDown() {
+        UpstreamRateLimiter limiter = limiter(Duration.ofSeconds(2));
+
+        limiter.onThrottled(Optional.of(Duration.ofSeconds(45)));
+
+        assertEquals(Duration.ofSeconds(45), limiter.coolDown());
+    }
+
+    @Test
+    public void coolDown_shouldGrowWhenProbeIsThrottledAndShrinkWhenItGetsThrough() {
+        UpstreamRateLimiter limiter = limiter(Duration.ofSeconds(2));
+
+        limiter.onThrottled(Optional.empty());
+        clock.advance(Duration.ofSeconds(30));
+        limiter.onThrottled(Optional.empty());
+        assertEquals(Duration.ofSeconds(45), limiter.coolDown());
+
+        clock.advance(Duration.ofSeconds(45));
+        limiter.onAdmitted();
+        assertEquals(Duration.ofMillis(40_500), limiter.coolDown());
+    }
+
+    @Test
+    public void onThrottled_whenAlreadyBlocked_shouldIgnoreLateResponses() {
+        UpstreamRateLimiter limiter = limiter(Duration.ofSeconds(2));
+
+        limiter.onThrottled(Optional.empty());
+        clock.advance(Duration.ofSeconds(1));
+        limiter.onThrottled(Optional.empty());
+
+        assertEquals(2.5, limiter.budget(), 0.001);
+        assertEquals(Duration.ofSeconds(30), limiter.coolDown());
+    }
+
+    @Test
+    public void onAdmitted_shouldGrowBudgetAdditively() {
+        UpstreamRateLimiter limiter = limiter(Duration.ofSeconds(2));
+
+        for (int i = 0; i < 5; i++) {
+            limiter.onAdmitted();
+        }
+
+        assertEquals(6, limiter.budget(), 0.1);
+    }
+
+    @Test
+    public void call_whenUpstreamThrottles_shouldFailNextCallLocally() {
+        UpstreamRateLimiter limiter = limiter(Duration.ofSeconds(2));
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        assertThrows(HttpClientErrorException.TooManyRequests.class, () -> limiter.call("test", () -> {
+            upstreamCalls.incrementAndGet();
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", new HttpHeaders(), null, null);
+        }));
+        assertThrows(RequestBudgetExhaustedException.class, () -> limiter.call("test", upstreamCalls::incrementAndGet));
+
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    public void callAsync_whenUpstreamThrottles_shouldFailNextCallLocally() {
+        UpstreamRateLimiter limiter = limiter(Duration.ofSeconds(2));
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        CompletableFuture<Integer> throttled = limiter.callAsync("test", () -> {
+            upstreamCalls.incrementAndGet();
+            return CompletableFuture.failedFuture(
+                    HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", new HttpHeaders(), null, null));
+        });
+        CompletableFuture<Integer> rejected = limiter.callAsync(
+                "test", () -> CompletableFuture.completedFuture(upstreamCalls.incrementAndGet()));
+
+        assertInstanceOf(
+                HttpClientErrorException.TooManyRequests.class,
+                assertThrows(CompletionException.class, throttled::join).getCause());
+        assertInstanceOf(
+                RequestBudgetExhaustedException.class,
+                assertThrows(CompletionException.class, rejected::join).getCause());
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(2.5, limiter.budget(), 0.001);
+    }
+
+    @Test
+    public void callAsync_whenPermitIsAhead_shouldStartCallOnceItIsDue() {
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(
+                true,
+                1,
+                Duration.ofMillis(50),
+                Duration.ofMillis(1),
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(1),
+                Clock.systemUTC());
+        limiter.reserve();
+
+        CompletableFuture<String> queued = limiter.callAsync("test", () -> CompletableFuture.completedFuture("ok"));
+
+        assertEquals("ok", queued.join());
+    }
+
+    @Test
+    public void timeToNextPermit_shouldReportWaitWithoutReserving() {
+        UpstreamRateLimiter limiter = limiter(Duration.ofSeconds(10));
+        assertEquals(Duration.ZERO, limiter.timeToNextPermit());
+
+        for (int i = 0; i < 5; i++) {
+            limiter.reserve();
+        }
+        assertEquals(Duration.ofSeconds(6), limiter.timeToNextPermit());
+        assertEquals(Duration.ofSeconds(6), limiter.timeToNextPermit());
+
+        limiter.onThrottled(Optional.empty());
+        assertEquals(Duration.ofSeconds(30), limiter.timeToNextPermit());
+    }
+
+    @Test
+    public void call_whenDisabled_shouldNeverThrottle() {
+        UpstreamRateLimiter limiter = new UpstreamRateLimiter(
+                false,
+                1,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(120),
+                Duration.ZERO,
+                clock);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals("ok", limiter.call("test", () -> "ok"));
+        }
+    }
+
+    private UpstreamRateLimiter limiter(Duration maxWait) {
+        return new UpstreamRateLimiter(
+                true, 5, Duration.ofSeconds(30), Duration.ofSeconds(1), Duration.ofSeconds(120), maxWait, clock);
+    }
+}
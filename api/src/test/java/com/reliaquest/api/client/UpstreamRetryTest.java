@@ -0,0 +1,196 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.reliaquest.api.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+public class UpstreamRetryTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UpstreamRetry upstreamRetry;
+
+    @AfterEach
+    public void tearDown() {
+        upstreamRetry.shutdown();
+    }
+
+    @Test
+    public void execute_whenThrottledThenSuccessful_shouldRetryUntilSuccess() {
+        upstreamRetry = retry(UpstreamRetry.Mode.BLOCKING, 5);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = upstreamRetry.execute("test", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(
+                2.0,
+                meterRegistry
+                        .get(UpstreamMetrics.RETRIES)
+                        .tag("operation", "test")
+                        .tag("status", "429")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    public void execute_whenNotRetryable_shouldFailOnFirstAttempt() {
+        upstreamRetry = retry(UpstreamRetry.Mode.BLOCKING, 5);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(HttpClientErrorException.class, () -> upstreamRetry.execute("test", () -> {
+            attempts.incrementAndGet();
+            throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "", null, null, null);
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void delayMillis_whenRetryAfterPresent_shouldHonorIt() {
+        upstreamRetry = retry(UpstreamRetry.Mode.BLOCKING, 5);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+
+        long delay = upstreamRetry.delayMillis(
+                1, HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", headers, null, null));
+
+        assertEquals(7000, delay);
+    }
+
+    @Test
+    public void executeAsync_shouldRetryOnSchedulerAndComplete() throws Exception {
+        upstreamRetry = retry(UpstreamRetry.Mode.ASYNC, 5);
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = upstreamRetry.executeAsync("test", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "", null, null, null);
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void composeAsync_shouldRetryAsynchronousCallUntilSuccess() throws Exception {
+        upstreamRetry = retry(UpstreamRetry.Mode.BLOCKING, 5);
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = upstreamRetry.composeAsync("test", () -> attempts.incrementAndGet() < 3
+                ? CompletableFuture.failedFuture(
+                        HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null))
+                : CompletableFuture.completedFuture("ok"));
+
+        assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void composeAsync_whenNotRetryable_shouldFailWithUnwrappedCause() {
+        upstreamRetry = retry(UpstreamRetry.Mode.BLOCKING, 5);
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = upstreamRetry.composeAsync(
+                "test",
+                () -> CompletableFuture.supplyAsync(() -> {
+                    attempts.incrementAndGet();
+                    throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "", null, null, null);
+                }));
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(HttpClientErrorException.BadRequest.class, error.getCause());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void execute_inAsyncMode_whenThrottled_shouldAnswer429WithoutWaitingForRetry() {
+        upstreamRetry = new UpstreamRetry(
+                UpstreamRetry.Mode.ASYNC,
+                5,
+                10_000,
+                10_000,
+                ForkJoinPool.commonPool(),
+                Clock.systemUTC(),
+                new UpstreamMetrics(meterRegistry));
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(TooManyRequestsException.class, () -> upstreamRetry.execute("test", () -> {
+            attempts.incrementAndGet();
+            throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null);
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void execute_inAsyncMode_whenFirstAttemptSucceeds_shouldReturnItsResult() {
+        upstreamRetry = retry(UpstreamRetry.Mode.ASYNC, 5);
+        CompletableFuture<String> handedOver = new CompletableFuture<>();
+
+        assertEquals("ok", upstreamRetry.execute("test", () -> "ok", handedOver::complete));
+        assertEquals("ok", handedOver.getNow(null));
+    }
+
+    @Test
+    public void execute_inAsyncMode_whenRetrySucceedsAfterCallerWasAnswered_shouldStillHandOverResult()
+            throws Exception {
+        upstreamRetry = new UpstreamRetry(
+                UpstreamRetry.Mode.ASYNC,
+                3,
+                200,
+                200,
+                ForkJoinPool.commonPool(),
+                Clock.systemUTC(),
+                new UpstreamMetrics(meterRegistry));
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> handedOver = new CompletableFuture<>();
+
+        assertThrows(
+                TooManyRequestsException.class,
+                () -> upstreamRetry.execute(
+                        "test",
+                        () -> {
+                            if (attempts.incrementAndGet() == 1) {
+                                throw HttpClientErrorException.create(
+                                        HttpStatus.TOO_MANY_REQUESTS, "", null, null, null);
+                            }
+                            return "ok";
+                        },
+                        handedOver::complete));
+
+        assertEquals("ok", handedOver.get(5, TimeUnit.SECONDS));
+        assertEquals(2, attempts.get());
+    }
+
+    private UpstreamRetry retry(UpstreamRetry.Mode mode, int maxAttempts) {
+        return new UpstreamRetry(
+                mode,
+                maxAttempts,
+                1,
+                10,
+                ForkJoinPool.commonPool(),
+                Clock.systemUTC(),
+                new UpstreamMetrics(meterRegistry));
+    }
+}
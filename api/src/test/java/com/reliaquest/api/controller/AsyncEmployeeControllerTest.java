@@ -0,0 +1,79 @@
+package com.reliaquest.api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.exception.BadRequestException;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.AsyncEmployeeService;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.ResponseEntity;
+
+public class AsyncEmployeeControllerTest {
+
+    @Mock
+    private AsyncEmployeeService asyncEmployeeService;
+
+    @InjectMocks
+    private AsyncEmployeeController asyncEmployeeController;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void getAllEmployees_shouldAnswerWhenServiceCompletes() {
+        CompletableFuture<List<Employee>> employees = new CompletableFuture<>();
+        when(asyncEmployeeService.getAllEmployees()).thenReturn(employees);
+
+        CompletableFuture<ResponseEntity<List<Employee>>> response = asyncEmployeeController.getAllEmployees();
+        assertFalse(response.isDone());
+        employees.complete(List.of(new Employee()));
+
+        assertEquals(200, response.join().getStatusCode().value());
+        assertEquals(1, response.join().getBody().size());
+    }
+
+    @Test
+    public void getEmployeeById_whenEmployeeNotFound_shouldAnswerNotFound() {
+        String validUuid = UUID.randomUUID().toString();
+        when(asyncEmployeeService.getEmployeeById(validUuid)).thenReturn(CompletableFuture.completedFuture(null));
+
+        ResponseEntity<Employee> response = asyncEmployeeController.getEmployeeById(validUuid).join();
+
+        assertEquals(404, response.getStatusCode().value());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    public void getEmployeeById_withInvalidId_shouldRejectBeforeCallingService() {
+        assertThrows(BadRequestException.class, () -> asyncEmployeeController.getEmployeeById("not-a-uuid"));
+        verify(asyncEmployeeService, never()).getEmployeeById(any());
+    }
+
+    @Test
+    public void deleteEmployeeById_shouldAnswerWithDeletedName() {
+        String validUuid = UUID.randomUUID().toString();
+        when(asyncEmployeeService.deleteEmployeeById(validUuid))
+                .thenReturn(CompletableFuture.completedFuture("Tiger"));
+
+        ResponseEntity<String> response = asyncEmployeeController.deleteEmployeeById(validUuid).join();
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("Tiger", response.getBody());
+    }
+}
@@ -6,11 +6,13 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
+import com.reliaquest.api.cache.Staleness;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
 import com.reliaquest.api.service.EmployeeService;
 import io.restassured.http.ContentType;
 import io.restassured.module.mockmvc.RestAssuredMockMvc;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.UUID;
@@ -20,6 +22,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 @WebMvcTest(EmployeeController.class)
 public class EmployeeControllerIntegrationTest {
@@ -50,6 +54,26 @@ public class EmployeeControllerIntegrationTest {
                 .body("[0].employee_name", equalTo("John Doe"));
     }
 
+    @Test
+    public void getAllEmployees_whenServedFromStaleSnapshot_shouldSetStalenessHeaders() {
+        Employee employee = new Employee();
+        employee.setId("1");
+        employee.setName("John Doe");
+        when(employeeService.getAllEmployees()).thenAnswer(invocation -> {
+            RequestContextHolder.currentRequestAttributes()
+                    .setAttribute(Staleness.AGE_ATTRIBUTE, Duration.ofSeconds(95), RequestAttributes.SCOPE_REQUEST);
+            return Collections.singletonList(employee);
+        });
+
+        given().when()
+                .get("/api/v1/employees")
+                .then()
+                .statusCode(200)
+                .header("Age", equalTo("95"))
+                .header("Warning", equalTo("110 - \"Response is Stale\""))
+                .body("[0].employee_name", equalTo("John Doe"));
+    }
+
     @Test
     public void getEmployeesByNameSearch_shouldReturnMatchingEmployees() {
         Employee employee = new Employee();
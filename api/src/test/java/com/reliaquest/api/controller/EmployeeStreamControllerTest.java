@@ -0,0 +1,117 @@
+package com.reliaquest.api.controller;
+
+import static com.reliaquest.api.TestFixtures.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.EmployeeStreamService;
+import java.util.List;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest({EmployeeController.class, EmployeeStreamController.class})
+public class EmployeeStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @MockBean
+    private EmployeeStreamService employeeStreamService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void streamAllEmployees_whenNdjsonIsAccepted_shouldWriteOneEmployeePerLine() throws Exception {
+        doAnswer(invocation -> {
+                    Predicate<Employee> visitor = invocation.getArgument(0);
+                    visitor.test(employee("1", "Tiger Nixon"));
+                    visitor.test(employee("2", "Bill Bob"));
+                    return null;
+                })
+                .when(employeeStreamService)
+                .streamAllEmployees(any(Predicate.class));
+
+        MvcResult started = mockMvc.perform(get("/api/v1/employees").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.endsWith("\n"));
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"1\",\"employee_name\":\"Tiger Nixon\""));
+        assertTrue(lines[1].startsWith("{\"id\":\"2\",\"employee_name\":\"Bill Bob\""));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void getAllEmployees_whenAnythingIsAccepted_shouldReturnJsonList() throws Exception {
+        when(employeeService.getAllEmployees()).thenReturn(List.of(employee("1", "Tiger Nixon")));
+
+        mockMvc.perform(get("/api/v1/employees").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].employee_name").value("Tiger Nixon"));
+
+        verify(employeeStreamService, never()).streamAllEmployees(any(Predicate.class));
+    }
+
+    @Test
+    public void uncachedReads_whenNoCacheIsRequested_shouldScanUpstream() throws Exception {
+        when(employeeStreamService.highestSalaryUpstream()).thenReturn(300);
+        when(employeeStreamService.topEarnerNamesUpstream(10)).thenReturn(List.of("Tiger Nixon"));
+        when(employeeStreamService.searchUpstream("tig")).thenReturn(List.of(employee("1", "Tiger Nixon")));
+
+        mockMvc.perform(get("/api/v1/employees/highestSalary").header(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("300"));
+        mockMvc.perform(get("/api/v1/employees/topTenHighestEarningEmployeeNames")
+                        .header(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("Tiger Nixon"));
+        mockMvc.perform(get("/api/v1/employees/search/tig").header(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].employee_name").value("Tiger Nixon"));
+
+        verify(employeeService, never()).getHighestSalaryOfEmployees();
+        verify(employeeService, never()).getTopTenHighestEarningEmployeeNames();
+        verify(employeeService, never()).getEmployeesByNameSearch(any());
+    }
+
+    @Test
+    public void getHighestSalary_withoutNoCache_shouldAnswerFromService() throws Exception {
+        when(employeeService.getHighestSalaryOfEmployees()).thenReturn(300);
+
+        mockMvc.perform(get("/api/v1/employees/highestSalary"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("300"));
+
+        verify(employeeStreamService, never()).highestSalaryUpstream();
+    }
+}
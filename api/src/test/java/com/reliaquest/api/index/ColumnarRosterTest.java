@@ -0,0 +1,76 @@
+package com.reliaquest.api.index;
+
+import static com.reliaquest.api.TestFixtures.employee;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.reliaquest.api.model.ColumnHistogram;
+import com.reliaquest.api.model.ColumnStatistics;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarRosterTest {
+    private ColumnarRoster columnarRoster;
+
+    @BeforeEach
+    public void setUp() {
+        columnarRoster = new ColumnarRoster();
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            roster.add(employee(String.valueOf(i), null, i * 1000, 20 + i % 40, i % 2 == 0 ? "Engineer" : "Analyst"));
+        }
+        columnarRoster.onReplace(roster);
+    }
+
+    @Test
+    public void statistics_shouldSummarizeColumn() {
+        ColumnStatistics salary = columnarRoster.statistics(RosterColumn.SALARY);
+
+        assertEquals(new ColumnStatistics(100, 1000, 100_000, 50_500, 50_000, 90_000, 99_000), salary);
+    }
+
+    @Test
+    public void statisticsByTitle_shouldGroupByDictionaryEncodedTitle() {
+        Map<String, ColumnStatistics> byTitle = columnarRoster.statisticsByTitle(RosterColumn.SALARY);
+
+        assertEquals(2, byTitle.size());
+        assertEquals(50, byTitle.get("Engineer").count());
+        assertEquals(100_000, byTitle.get("Engineer").max());
+        assertEquals(1000, byTitle.get("Analyst").min());
+        assertEquals(50_000, byTitle.get("Analyst").average());
+    }
+
+    @Test
+    public void histogram_shouldBucketValuesEvenly() {
+        ColumnHistogram histogram = columnarRoster.histogram(RosterColumn.SALARY, 4);
+
+        assertEquals(1000, histogram.min());
+        assertEquals(24_751, histogram.bucketWidth());
+        assertArrayEquals(new int[] {25, 25, 25, 25}, histogram.counts());
+    }
+
+    @Test
+    public void onPutAndOnEvict_shouldUpdateColumns() {
+        columnarRoster.onEvict(employee("100", null, 100_000, 60, "Engineer"));
+        columnarRoster.onPut(employee("101", null, 500_000, 30, "Director"));
+        columnarRoster.onPut(employee("1", null, 2_000, 21, "Analyst"));
+
+        ColumnStatistics salary = columnarRoster.statistics(RosterColumn.SALARY);
+        assertEquals(100, salary.count());
+        assertEquals(2000, salary.min());
+        assertEquals(500_000, salary.max());
+        assertEquals(1, columnarRoster.statisticsByTitle(RosterColumn.SALARY).get("Director").count());
+    }
+
+    @Test
+    public void statistics_shouldSkipMissingValues() {
+        columnarRoster.onReplace(List.of(new Employee(), employee("1", null, 1000, 30, "Analyst")));
+
+        assertEquals(1, columnarRoster.statistics(RosterColumn.AGE).count());
+        assertEquals(2, columnarRoster.size());
+    }
+}
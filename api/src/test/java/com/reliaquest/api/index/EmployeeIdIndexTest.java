@@ -0,0 +1,78 @@
+package com.reliaquest.api.index;
+
+import static com.reliaquest.api.TestFixtures.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EmployeeIdIndexTest {
+    private EmployeeIdIndex employeeIdIndex;
+
+    @BeforeEach
+    public void setUp() {
+        employeeIdIndex = new EmployeeIdIndex();
+    }
+
+    @Test
+    public void nameOf_shouldFollowRosterChanges() {
+        employeeIdIndex.onReplace(List.of(employee("1", "Tiger"), employee("2", "Jane")));
+        employeeIdIndex.onPut(employee("3", "John"));
+        employeeIdIndex.onPut(employee("1", "Tiger Nixon"));
+        employeeIdIndex.onEvict(employee("2", "Jane"));
+
+        assertEquals(Optional.of("Tiger Nixon"), employeeIdIndex.nameOf("1"));
+        assertTrue(employeeIdIndex.nameOf("2").isEmpty());
+        assertEquals(Optional.of("John"), employeeIdIndex.nameOf("3"));
+    }
+
+    @Test
+    public void onReplace_shouldDropEmployeesMissingFromTheNewRoster() {
+        employeeIdIndex.onPut(employee("1", "Tiger"));
+
+        employeeIdIndex.onReplace(List.of(employee("2", "Jane"), employee(null, "No Id")));
+
+        assertTrue(employeeIdIndex.nameOf("1").isEmpty());
+        assertEquals(Optional.of("Jane"), employeeIdIndex.nameOf("2"));
+    }
+
+    @Test
+    public void forget_shouldRemoveEntry() {
+        employeeIdIndex.onPut(employee("1", "Tiger"));
+
+        employeeIdIndex.forget("1");
+
+        assertTrue(employeeIdIndex.nameOf("1").isEmpty());
+    }
+
+    @Test
+    public void nameOf_whenNameIsSharedIgnoringCase_shouldNotResolveUntilItIsUniqueAgain() {
+        employeeIdIndex.onReplace(List.of(employee("1", "Tiger"), employee("2", "TIGER"), employee("3", "Jane")));
+
+        assertTrue(employeeIdIndex.nameOf("1").isEmpty());
+        assertTrue(employeeIdIndex.nameOf("2").isEmpty());
+        assertEquals(Optional.of("Jane"), employeeIdIndex.nameOf("3"));
+
+        employeeIdIndex.onEvict(employee("2", "TIGER"));
+        assertEquals(Optional.of("Tiger"), employeeIdIndex.nameOf("1"));
+
+        employeeIdIndex.onPut(employee("3", "tiger"));
+        assertTrue(employeeIdIndex.nameOf("1").isEmpty());
+    }
+
+    @Test
+    public void sharesName_shouldCountOtherEmployeesIgnoringCase() {
+        employeeIdIndex.onReplace(List.of(employee("1", "Tiger"), employee("2", "Jane")));
+
+        assertFalse(employeeIdIndex.sharesName("1", "Tiger"));
+        assertFalse(employeeIdIndex.sharesName("3", "John"));
+        assertTrue(employeeIdIndex.sharesName("3", "TIGER"));
+
+        employeeIdIndex.onPut(employee("3", "tiger"));
+        assertTrue(employeeIdIndex.sharesName("1", "Tiger"));
+    }
+}
@@ -0,0 +1,130 @@
+package com.reliaquest.api.index;
+
+import static com.reliaquest.api.TestFixtures.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.client.AsyncEmployeeApiClient;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.VersionedRoster;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeChange;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class EmployeeNameIndexTest {
+    private static final String[] FIRST_NAMES = {"Tiger", "Jane", "John", "Ana", "Bill", "Jill", "Zoë", "Mary-Ann"};
+    private static final String[] LAST_NAMES = {"Nixon", "Doe", "Bob", "Jenkins", "O'Brien", "Smith", "Annan"};
+
+    private EmployeeNameIndex employeeNameIndex;
+
+    @BeforeEach
+    public void setUp() {
+        employeeNameIndex = new EmployeeNameIndex();
+    }
+
+    @Test
+    public void search_shouldMatchLinearContainsScanInRosterOrder() {
+        Random random = new Random(42);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            roster.add(employee(
+                    String.valueOf(i),
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                            + LAST_NAMES[random.nextInt(LAST_NAMES.length)]));
+        }
+        employeeNameIndex.onReplace(roster);
+
+        for (String term : List.of("a", "an", "ann", "ANN", "n ", "jane doe", "o'b", "zoë", "xyz", "tiger nixon!")) {
+            assertEquals(linearScan(roster, term), employeeNameIndex.search(term), term);
+        }
+    }
+
+    @Test
+    public void onPutAndOnEvict_shouldUpdateIndexIncrementally() {
+        Employee tiger = employee("1", "Tiger Nixon");
+        Employee jane = employee("2", "Jane Doe");
+        employeeNameIndex.onReplace(List.of(tiger, jane));
+
+        Employee janet = employee("3", "Janet Nixon");
+        employeeNameIndex.onPut(janet);
+        assertEquals(List.of(tiger, janet), employeeNameIndex.search("nixon"));
+
+        employeeNameIndex.onEvict(tiger);
+        assertEquals(List.of(janet), employeeNameIndex.search("nixon"));
+        assertEquals(List.of(jane, janet), employeeNameIndex.search("jan"));
+    }
+
+    @Test
+    public void onPutAndOnEvict_shouldKeepRowsProportionalToRoster() {
+        employeeNameIndex.onReplace(List.of(employee("0", "Tiger Nixon")));
+
+        for (int i = 1; i <= 10_000; i++) {
+            employeeNameIndex.onPut(employee(String.valueOf(i), "Temp " + i));
+            employeeNameIndex.onEvict(employee(String.valueOf(i), "Temp " + i));
+            employeeNameIndex.onPut(employee("0", "Tiger Nixon"));
+        }
+
+        assertTrue(employeeNameIndex.rowCount() <= 64, "rows: " + employeeNameIndex.rowCount());
+        assertEquals(List.of("Tiger Nixon"), names(employeeNameIndex.search("ni")));
+        assertEquals(List.of("Tiger Nixon"), names(employeeNameIndex.search("nixon")));
+        assertEquals(List.of(), employeeNameIndex.search("temp"));
+    }
+
+    @Test
+    public void rosterDeltas_shouldKeepIndexSizeBounded() {
+        EmployeeApiClient employeeApiClient = mock(EmployeeApiClient.class);
+        when(employeeApiClient.fetchRosterIfChanged(null))
+                .thenReturn(Optional.of(new VersionedRoster(List.of(employee("0", "Tiger Nixon")), "1700-0")));
+        RosterCache rosterCache = new RosterCache(
+                employeeApiClient,
+                mock(AsyncEmployeeApiClient.class),
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(5),
+                Clock.systemUTC(),
+                List.of(employeeNameIndex));
+        rosterCache.reload();
+
+        int version = 0;
+        for (int i = 1; i <= 5_000; i++) {
+            Employee temp = employee(String.valueOf(i), "Temp " + i);
+            rosterCache.put(temp);
+            rosterCache.applyPushed(
+                    "1700-" + ++version, new EmployeeChange(version, EmployeeChange.Type.CREATED, temp));
+            rosterCache.applyPushed(
+                    "1700-" + ++version, new EmployeeChange(version, EmployeeChange.Type.DELETED, temp));
+        }
+
+        assertEquals(1, rosterCache.getEmployees().size());
+        assertTrue(employeeNameIndex.rowCount() <= 64, "rows: " + employeeNameIndex.rowCount());
+        assertEquals(List.of("Tiger Nixon"), names(employeeNameIndex.search("n")));
+    }
+
+    @Test
+    public void search_shouldSkipEmployeesWithoutName() {
+        employeeNameIndex.onReplace(List.of(new Employee(), employee("1", "Tiger")));
+
+        assertEquals(1, employeeNameIndex.search("tig").size());
+        assertTrue(employeeNameIndex.search("ti").size() == 1);
+    }
+
+    private static List<Employee> linearScan(List<Employee> roster, String term) {
+        return roster.stream()
+                .filter(employee -> employee.getName().toLowerCase().contains(term.toLowerCase()))
+                .toList();
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getName).toList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.index;
+
+import static com.reliaquest.api.TestFixtures.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SalaryRankingTest {
+    private SalaryRanking salaryRanking;
+
+    @BeforeEach
+    public void setUp() {
+        salaryRanking = new SalaryRanking();
+    }
+
+    @Test
+    public void topNames_shouldMatchStableSortByDescendingSalary() {
+        Random random = new Random(7);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            roster.add(employee(String.valueOf(i), "Employee " + i, 30_000 + random.nextInt(50) * 1_000));
+        }
+        salaryRanking.onReplace(roster);
+
+        List<String> expected = roster.stream()
+                .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                .limit(10)
+                .map(Employee::getName)
+                .toList();
+        assertEquals(expected, salaryRanking.topNames(10));
+        assertEquals(10, expected.size());
+        assertEquals(roster.stream().mapToInt(Employee::getSalary).max().getAsInt(), salaryRanking.highestSalary());
+    }
+
+    @Test
+    public void onPutAndOnEvict_shouldUpdateRanking() {
+        Employee john = employee("1", "John", 1000);
+        Employee jane = employee("2", "Jane", 2000);
+        salaryRanking.onReplace(List.of(john, jane));
+
+        salaryRanking.onPut(employee("3", "Jill", 3000));
+        assertEquals(List.of("Jill", "Jane", "John"), salaryRanking.topNames(10));
+        assertEquals(3000, salaryRanking.highestSalary());
+
+        salaryRanking.onEvict(jane);
+        assertEquals(List.of("Jill", "John"), salaryRanking.topNames(10));
+
+        salaryRanking.onPut(employee("1", "John", 5000));
+        assertEquals(List.of("John", "Jill"), salaryRanking.topNames(10));
+    }
+
+    @Test
+    public void highestSalary_whenEmpty_shouldReturnZero() {
+        salaryRanking.onReplace(List.of());
+
+        assertEquals(0, salaryRanking.highestSalary());
+        assertEquals(List.of(), salaryRanking.topNames(10));
+    }
+}
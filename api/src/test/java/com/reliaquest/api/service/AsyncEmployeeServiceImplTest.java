@@ -0,0 +1,136 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.TestFixtures.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.AsyncEmployeeApiClient;
+import com.reliaquest.api.exception.CircuitOpenException;
+import com.reliaquest.api.exception.ConflictException;
+import com.reliaquest.api.index.EmployeeIdIndex;
+import com.reliaquest.api.index.EmployeeNameIndex;
+import com.reliaquest.api.index.SalaryRanking;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class AsyncEmployeeServiceImplTest {
+    private static final String ID = "1d6f3419-6bc9-4090-9f5c-64328d0dfe5a";
+
+    @Mock
+    private AsyncEmployeeApiClient asyncEmployeeApiClient;
+
+    @Mock
+    private RosterCache rosterCache;
+
+    private SalaryRanking salaryRanking;
+
+    private EmployeeIdIndex employeeIdIndex;
+
+    private AsyncEmployeeService asyncEmployeeService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        salaryRanking = new SalaryRanking();
+        employeeIdIndex = new EmployeeIdIndex();
+        asyncEmployeeService = new AsyncEmployeeServiceImpl(
+                asyncEmployeeApiClient, rosterCache, new EmployeeNameIndex(), salaryRanking, employeeIdIndex);
+    }
+
+    @Test
+    public void getHighestSalaryOfEmployees_shouldCompleteOnceTheRosterIsLoaded() {
+        CompletableFuture<RosterSnapshot> load = new CompletableFuture<>();
+        when(rosterCache.getSnapshotAsync()).thenReturn(load);
+
+        CompletableFuture<Integer> highest = asyncEmployeeService.getHighestSalaryOfEmployees();
+        assertFalse(highest.isDone());
+        List<Employee> employees = List.of(employee("1", "Tiger", 320800), employee("2", "Bill", 89750));
+        salaryRanking.onReplace(employees);
+        load.complete(new RosterSnapshot(employees, Instant.now()));
+
+        assertEquals(320800, highest.join());
+    }
+
+    @Test
+    public void getEmployeeById_shouldCompleteWithUpstreamEmployee() {
+        Employee employee = employee(ID, "Tiger", 320800);
+        when(asyncEmployeeApiClient.fetchEmployeeById(ID)).thenReturn(CompletableFuture.completedFuture(employee));
+
+        assertSame(employee, asyncEmployeeService.getEmployeeById(ID).join());
+    }
+
+    @Test
+    public void getEmployeeById_whenCircuitIsOpen_shouldFallBackToRosterCache() {
+        Employee cached = employee(ID, "Tiger", 320800);
+        when(asyncEmployeeApiClient.fetchEmployeeById(ID))
+                .thenReturn(CompletableFuture.failedFuture(new CircuitOpenException("open")));
+        when(rosterCache.findCached(ID)).thenReturn(Optional.of(cached));
+
+        assertSame(cached, asyncEmployeeService.getEmployeeById(ID).join());
+    }
+
+    @Test
+    public void createEmployee_shouldAddEmployeeToCache() {
+        Employee created = employee(ID, "Tiger", 320800);
+        EmployeeInput input = new EmployeeInput();
+        when(asyncEmployeeApiClient.createEmployee(input)).thenReturn(CompletableFuture.completedFuture(created));
+
+        assertSame(created, asyncEmployeeService.createEmployee(input).join());
+        verify(rosterCache).put(created);
+    }
+
+    @Test
+    public void deleteEmployeeById_whenIdIsIndexed_shouldDeleteWithoutLookup() {
+        employeeIdIndex.onPut(employee(ID, "Tiger", 320800));
+        when(asyncEmployeeApiClient.deleteEmployeeByName("Tiger")).thenReturn(CompletableFuture.completedFuture(true));
+
+        assertEquals("Tiger", asyncEmployeeService.deleteEmployeeById(ID).join());
+        verify(asyncEmployeeApiClient, never()).fetchEmployeeById(any());
+        verify(rosterCache).evict(ID);
+        assertTrue(employeeIdIndex.nameOf(ID).isEmpty());
+    }
+
+    @Test
+    public void deleteEmployeeById_whenEmployeeIsUnknown_shouldCompleteWithNull() {
+        when(asyncEmployeeApiClient.fetchEmployeeById(ID)).thenReturn(CompletableFuture.completedFuture(null));
+
+        assertNull(asyncEmployeeService.deleteEmployeeById(ID).join());
+        verify(asyncEmployeeApiClient, never()).deleteEmployeeByName(any());
+    }
+
+    @Test
+    public void deleteEmployeeById_whenLookedUpNameIsShared_shouldFailWithConflict() {
+        Employee requested = employee(ID, "Tiger", 320800);
+        List<Employee> employees = List.of(employee("2", "Tiger", 89750), requested);
+        employeeIdIndex.onReplace(employees);
+        when(asyncEmployeeApiClient.fetchEmployeeById(ID)).thenReturn(CompletableFuture.completedFuture(requested));
+        when(rosterCache.getSnapshotAsync())
+                .thenReturn(CompletableFuture.completedFuture(new RosterSnapshot(employees, Instant.now())));
+
+        CompletionException failure = assertThrows(
+                CompletionException.class, () -> asyncEmployeeService.deleteEmployeeById(ID).join());
+
+        assertInstanceOf(ConflictException.class, failure.getCause());
+        verify(asyncEmployeeApiClient, never()).deleteEmployeeByName(any());
+    }
+}
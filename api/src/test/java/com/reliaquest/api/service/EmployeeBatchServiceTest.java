@@ -0,0 +1,179 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.TestFixtures.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import com.reliaquest.api.exception.CircuitOpenException;
+import com.reliaquest.api.exception.RequestBudgetExhaustedException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.model.BatchItemResult;
+import com.reliaquest.api.model.BatchResult;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.model.EmployeeInput;
+import jakarta.validation.Validation;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+public class EmployeeBatchServiceTest {
+    @Mock
+    private AsyncEmployeeService asyncEmployeeService;
+
+    private EmployeeBatchService employeeBatchService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        employeeBatchService = batchService(4);
+    }
+
+    @Test
+    public void createEmployees_shouldReportEachItemInRequestOrder() {
+        when(asyncEmployeeService.createEmployee(any())).thenAnswer(invocation -> {
+            EmployeeInput input = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(employee(UUID.randomUUID().toString(), input.getName()));
+        });
+        EmployeeInput invalid = input("Jane");
+        invalid.setAge(3);
+
+        BatchResult<Employee> result = employeeBatchService
+                .createEmployees(List.of(input("Tiger"), invalid, input("Jack")))
+                .join();
+
+        assertEquals(2, result.succeeded());
+        assertEquals(1, result.failed());
+        List<BatchItemResult<Employee>> items = result.items();
+        assertEquals("Tiger", items.get(0).result().getName());
+        assertEquals(400, items.get(1).status());
+        assertTrue(items.get(1).error().startsWith("age: "));
+        assertNull(items.get(1).result());
+        assertEquals("Jack", items.get(2).result().getName());
+        verify(asyncEmployeeService, times(2)).createEmployee(any());
+    }
+
+    @Test
+    public void createEmployees_whenThrottled_shouldTryTheItemAgain() {
+        when(asyncEmployeeService.createEmployee(any()))
+                .thenThrow(new RequestBudgetExhaustedException("budget"))
+                .thenReturn(CompletableFuture.failedFuture(
+                        HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null)))
+                .thenReturn(CompletableFuture.completedFuture(employee("1", "Tiger")));
+
+        BatchResult<Employee> result =
+                employeeBatchService.createEmployees(List.of(input("Tiger"))).join();
+
+        assertEquals(200, result.items().get(0).status());
+        verify(asyncEmployeeService, times(3)).createEmployee(any());
+    }
+
+    @Test
+    public void createEmployees_whenRetryMayStillBeRunning_shouldNotTryTheItemAgain() {
+        when(asyncEmployeeService.createEmployee(any()))
+                .thenReturn(CompletableFuture.failedFuture(new TooManyRequestsException("still retrying")));
+
+        BatchResult<Employee> result =
+                employeeBatchService.createEmployees(List.of(input("Tiger"))).join();
+
+        assertEquals(429, result.items().get(0).status());
+        verify(asyncEmployeeService, times(1)).createEmployee(any());
+    }
+
+    @Test
+    public void deleteEmployees_shouldMapOutcomesToStatuses() {
+        String deleted = UUID.randomUUID().toString();
+        String missing = UUID.randomUUID().toString();
+        String unavailable = UUID.randomUUID().toString();
+        when(asyncEmployeeService.deleteEmployeeById(deleted)).thenReturn(CompletableFuture.completedFuture("Tiger"));
+        when(asyncEmployeeService.deleteEmployeeById(missing)).thenReturn(CompletableFuture.completedFuture(null));
+        when(asyncEmployeeService.deleteEmployeeById(unavailable))
+                .thenReturn(CompletableFuture.failedFuture(new CircuitOpenException("open")));
+
+        BatchResult<String> result = employeeBatchService
+                .deleteEmployees(List.of(deleted, missing, "not-a-uuid", unavailable, deleted))
+                .join();
+
+        List<Integer> statuses = result.items().stream().map(BatchItemResult::status).toList();
+        assertEquals(List.of(200, 404, 400, 503, 400), statuses);
+        assertEquals("Tiger", result.items().get(0).result());
+        assertEquals("Duplicate id in batch", result.items().get(4).error());
+        assertEquals(1, result.succeeded());
+        verify(asyncEmployeeService, times(1)).deleteEmployeeById(deleted);
+        verify(asyncEmployeeService, never()).deleteEmployeeById("not-a-uuid");
+    }
+
+    @Test
+    public void deleteEmployees_shouldKeepAtMostConcurrencyItemsInFlight() {
+        employeeBatchService = batchService(3);
+        List<CompletableFuture<String>> started = new ArrayList<>();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(asyncEmployeeService.deleteEmployeeById(any())).thenAnswer(invocation -> {
+            CompletableFuture<String> deleted = new CompletableFuture<>();
+            started.add(deleted);
+            long inFlight = started.stream().filter(future -> !future.isDone()).count();
+            maxInFlight.accumulateAndGet((int) inFlight, Math::max);
+            return deleted;
+        });
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+
+        CompletableFuture<BatchResult<String>> batch = employeeBatchService.deleteEmployees(ids);
+
+        assertEquals(3, started.size());
+        assertFalse(batch.isDone());
+        for (int i = 0; i < started.size(); i++) {
+            started.get(i).complete("name");
+        }
+        BatchResult<String> result = batch.join();
+        assertEquals(12, result.succeeded());
+        assertEquals(3, maxInFlight.get());
+        assertTrue(result.items().stream().allMatch(item -> item.status() == 200));
+    }
+
+    private EmployeeBatchService batchService(int concurrency) {
+        UpstreamRateLimiter upstreamRateLimiter = new UpstreamRateLimiter(
+                false,
+                5,
+                Duration.ofSeconds(30),
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(120),
+                Duration.ofSeconds(2),
+                Clock.systemUTC());
+        return new EmployeeBatchService(
+                asyncEmployeeService,
+                upstreamRateLimiter,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                concurrency,
+                3,
+                Duration.ofMillis(1));
+    }
+
+    private static EmployeeInput input(String name) {
+        EmployeeInput input = new EmployeeInput();
+        input.setName(name);
+        input.setSalary(50000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+}
@@ -0,0 +1,215 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.TestFixtures.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import com.reliaquest.api.exception.CircuitOpenException;
+import com.reliaquest.api.exception.RequestBudgetExhaustedException;
+import com.reliaquest.api.model.BatchItemResult;
+import com.reliaquest.api.model.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class EmployeeLookupServiceTest {
+    private static final String CACHED_ID = "1d6f3419-6bc9-4090-9f5c-64328d0dfe5a";
+    private static final String MISSING_ID = "5255f1a5-f9f7-4be5-829a-134bde088d17";
+
+    @Mock
+    private RosterCache rosterCache;
+
+    @Mock
+    private AsyncEmployeeService asyncEmployeeService;
+
+    @Mock
+    private UpstreamRateLimiter upstreamRateLimiter;
+
+    private EmployeeLookupService employeeLookupService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(upstreamRateLimiter.budget()).thenReturn(5.0);
+        when(upstreamRateLimiter.timeToNextPermit()).thenReturn(Duration.ZERO);
+        employeeLookupService = lookupService(4);
+    }
+
+    @Test
+    public void lookupEmployees_shouldAnswerCachedIdsWithoutCallingUpstream() {
+        Employee cached = employee(CACHED_ID, "Tiger");
+        roster(cached);
+        Employee fetched = employee(MISSING_ID, "Jack");
+        when(asyncEmployeeService.getEmployeeById(MISSING_ID)).thenReturn(CompletableFuture.completedFuture(fetched));
+
+        List<BatchItemResult<Employee>> results = lookup(List.of(MISSING_ID, CACHED_ID.toUpperCase()));
+
+        assertEquals(2, results.size());
+        assertEquals(1, results.get(0).index());
+        assertSame(cached, results.get(0).result());
+        assertEquals(0, results.get(1).index());
+        assertSame(fetched, results.get(1).result());
+        verify(asyncEmployeeService, never()).getEmployeeById(CACHED_ID);
+        verify(asyncEmployeeService, never()).getEmployeeById(CACHED_ID.toUpperCase());
+    }
+
+    @Test
+    public void lookupEmployees_shouldReportInvalidAndUnknownIdsPerItem() {
+        roster();
+        when(asyncEmployeeService.getEmployeeById(MISSING_ID)).thenReturn(CompletableFuture.completedFuture(null));
+
+        List<BatchItemResult<Employee>> results = byIndex(lookup(Arrays.asList("not-a-uuid", MISSING_ID, null)));
+
+        assertEquals(400, results.get(0).status());
+        assertEquals(404, results.get(1).status());
+        assertEquals(400, results.get(2).status());
+    }
+
+    @Test
+    public void lookupEmployees_shouldFetchRepeatedIdOnceAndReportEveryPosition() {
+        roster();
+        Employee fetched = employee(MISSING_ID, "Jack");
+        when(asyncEmployeeService.getEmployeeById(MISSING_ID)).thenReturn(CompletableFuture.completedFuture(fetched));
+
+        List<BatchItemResult<Employee>> results = byIndex(lookup(List.of(MISSING_ID, MISSING_ID.toUpperCase())));
+
+        assertEquals(2, results.size());
+        assertSame(fetched, results.get(0).result());
+        assertSame(fetched, results.get(1).result());
+        verify(asyncEmployeeService, times(1)).getEmployeeById(anyString());
+    }
+
+    @Test
+    public void lookupEmployees_shouldFetchAllIdsWhenRosterCannotBeLoaded() {
+        when(rosterCache.getSnapshotAsync()).thenReturn(CompletableFuture.failedFuture(new IllegalStateException()));
+        Employee fetched = employee(MISSING_ID, "Jack");
+        when(asyncEmployeeService.getEmployeeById(MISSING_ID)).thenReturn(CompletableFuture.completedFuture(fetched));
+
+        List<BatchItemResult<Employee>> results = lookup(List.of(MISSING_ID));
+
+        assertEquals(200, results.get(0).status());
+    }
+
+    @Test
+    public void lookupEmployees_shouldKeepInFlightFetchesWithinConcurrencyAndBudget() {
+        roster();
+        when(upstreamRateLimiter.budget()).thenReturn(3.0);
+        employeeLookupService = lookupService(8);
+        List<CompletableFuture<Employee>> started = Collections.synchronizedList(new ArrayList<>());
+        when(asyncEmployeeService.getEmployeeById(anyString())).thenAnswer(invocation -> {
+            CompletableFuture<Employee> fetch = new CompletableFuture<>();
+            started.add(fetch);
+            return fetch;
+        });
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+        List<BatchItemResult<Employee>> results = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<Void> done = employeeLookupService.lookupEmployees(ids, results::add);
+        assertEquals(3, started.size());
+        for (int i = 0; i < 10; i++) {
+            started.get(i).complete(null);
+            assertTrue(started.size() <= i + 4);
+        }
+
+        done.join();
+        assertEquals(10, results.size());
+    }
+
+    @Test
+    public void lookupEmployees_shouldRetryThrottledFetches() {
+        roster();
+        Employee fetched = employee(MISSING_ID, "Jack");
+        when(asyncEmployeeService.getEmployeeById(MISSING_ID))
+                .thenReturn(CompletableFuture.failedFuture(new RequestBudgetExhaustedException("No permit")))
+                .thenReturn(CompletableFuture.completedFuture(fetched));
+        employeeLookupService = new EmployeeLookupService(
+                rosterCache, asyncEmployeeService, upstreamRateLimiter, 4, 3, Duration.ofMillis(1));
+
+        List<BatchItemResult<Employee>> results = lookup(List.of(MISSING_ID));
+
+        assertEquals(200, results.get(0).status());
+        verify(asyncEmployeeService, times(2)).getEmployeeById(MISSING_ID);
+    }
+
+    @Test
+    public void lookupEmployees_shouldReportThrottledAfterMaxAttemptsAndCircuitOpenAsUnavailable() {
+        roster();
+        String openId = UUID.randomUUID().toString();
+        when(asyncEmployeeService.getEmployeeById(MISSING_ID))
+                .thenReturn(CompletableFuture.failedFuture(new RequestBudgetExhaustedException("No permit")));
+        when(asyncEmployeeService.getEmployeeById(openId))
+                .thenReturn(CompletableFuture.failedFuture(new CircuitOpenException("Circuit open")));
+        employeeLookupService = new EmployeeLookupService(
+                rosterCache, asyncEmployeeService, upstreamRateLimiter, 4, 2, Duration.ofMillis(1));
+
+        List<BatchItemResult<Employee>> results = byIndex(lookup(List.of(MISSING_ID, openId)));
+
+        assertEquals(429, results.get(0).status());
+        assertEquals(503, results.get(1).status());
+        verify(asyncEmployeeService, times(2)).getEmployeeById(MISSING_ID);
+    }
+
+    @Test
+    public void lookupEmployees_whenVisitorStops_shouldNotFetchFurtherIds() {
+        roster();
+        when(asyncEmployeeService.getEmployeeById(any())).thenReturn(CompletableFuture.completedFuture(null));
+        employeeLookupService = lookupService(1);
+        AtomicInteger seen = new AtomicInteger();
+
+        employeeLookupService
+                .lookupEmployees(List.of(MISSING_ID, UUID.randomUUID().toString()), result -> {
+                    seen.incrementAndGet();
+                    return false;
+                })
+                .join();
+
+        assertEquals(1, seen.get());
+        verify(asyncEmployeeService, times(1)).getEmployeeById(any());
+    }
+
+    private EmployeeLookupService lookupService(int concurrency) {
+        return new EmployeeLookupService(
+                rosterCache, asyncEmployeeService, upstreamRateLimiter, concurrency, 10, Duration.ofMillis(1));
+    }
+
+    private void roster(Employee... employees) {
+        when(rosterCache.getSnapshotAsync())
+                .thenReturn(CompletableFuture.completedFuture(new RosterSnapshot(List.of(employees), Instant.now())));
+    }
+
+    private List<BatchItemResult<Employee>> lookup(List<String> ids) {
+        List<BatchItemResult<Employee>> results = Collections.synchronizedList(new ArrayList<>());
+        employeeLookupService.lookupEmployees(ids, results::add).join();
+        return results;
+    }
+
+    private static List<BatchItemResult<Employee>> byIndex(List<BatchItemResult<Employee>> results) {
+        List<BatchItemResult<Employee>> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingInt(BatchItemResult::index));
+        return sorted;
+    }
+}
@@ -1,50 +1,68 @@
 package com.reliaquest.api.service;
 
+import static com.reliaquest.api.TestFixtures.employee;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.exception.CircuitOpenException;
+import com.reliaquest.api.exception.ConflictException;
+import com.reliaquest.api.exception.TooManyRequestsException;
+import com.reliaquest.api.index.EmployeeIdIndex;
+import com.reliaquest.api.index.EmployeeNameIndex;
+import com.reliaquest.api.index.SalaryRanking;
 import com.reliaquest.api.model.Employee;
 import com.reliaquest.api.model.EmployeeInput;
-import java.util.Collections;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
 public class EmployeeServiceImplTest {
     @Mock
-    private RestTemplate restTemplate;
+    private EmployeeApiClient employeeApiClient;
 
-    private EmployeeService employeeService;
+    @Mock
+    private RosterCache rosterCache;
+
+    private EmployeeNameIndex employeeNameIndex;
 
-    private static final String MOCK_API_URL = "http://localhost:8112/api/v1/employee";
+    private SalaryRanking salaryRanking;
+
+    private EmployeeIdIndex employeeIdIndex;
+
+    private EmployeeService employeeService;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        employeeService = new EmployeeServiceImpl(restTemplate, MOCK_API_URL);
+        employeeNameIndex = new EmployeeNameIndex();
+        salaryRanking = new SalaryRanking();
+        employeeIdIndex = new EmployeeIdIndex();
+        employeeService = new EmployeeServiceImpl(
+                employeeApiClient, rosterCache, employeeNameIndex, salaryRanking, employeeIdIndex);
     }
 
     @Test
     public void testGetAllEmployees() {
-        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
-        apiResponse.setData(Collections.singletonList(new Employee()));
-        ResponseEntity<ApiResponse<List<Employee>>> responseEntity = ResponseEntity.ok(apiResponse);
-
-        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        when(rosterCache.reloadOrLastGood()).thenReturn(loaded(employee("1", "Tiger")));
 
         List<Employee> employees = employeeService.getAllEmployees();
         assertEquals(1, employees.size());
@@ -52,12 +70,7 @@ public class EmployeeServiceImplTest {
 
     @Test
     public void getAllEmployees_whenApiReturnsEmptyList_shouldReturnEmptyList() {
-        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
-        apiResponse.setData(Collections.emptyList());
-        ResponseEntity<ApiResponse<List<Employee>>> responseEntity = ResponseEntity.ok(apiResponse);
-
-        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        when(rosterCache.reloadOrLastGood()).thenReturn(loaded());
 
         List<Employee> employees = employeeService.getAllEmployees();
         assertEquals(0, employees.size());
@@ -65,8 +78,7 @@ public class EmployeeServiceImplTest {
 
     @Test
     public void getAllEmployees_whenApiFails_shouldThrowException() {
-        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+        when(rosterCache.reloadOrLastGood()).thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
 
         assertThrows(HttpClientErrorException.class, () -> {
             employeeService.getAllEmployees();
@@ -75,15 +87,7 @@ public class EmployeeServiceImplTest {
 
     @Test
     public void testGetEmployeeById() {
-        ApiResponse<Employee> apiResponse = new ApiResponse<>();
-        Employee employee = new Employee();
-        employee.setId("1");
-        apiResponse.setData(employee);
-        ResponseEntity<ApiResponse<Employee>> responseEntity = ResponseEntity.ok(apiResponse);
-
-        when(restTemplate.exchange(
-                        eq(MOCK_API_URL + "/1"), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        when(employeeApiClient.fetchEmployeeById("1")).thenReturn(employee("1", "Tiger"));
 
         Employee result = employeeService.getEmployeeById("1");
         assertEquals("1", result.getId());
@@ -91,40 +95,34 @@ public class EmployeeServiceImplTest {
 
     @Test
     public void getEmployeeById_whenNotFound_shouldReturnNull() {
-        when(restTemplate.exchange(
-                        eq(MOCK_API_URL + "/99"), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+        when(employeeApiClient.fetchEmployeeById("99")).thenReturn(null);
 
         Employee result = employeeService.getEmployeeById("99");
         assertNull(result);
     }
 
     @Test
-    public void testGetEmployeesByNameSearch() {
-        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
-        Employee employee = new Employee();
-        employee.setName("Tiger");
-        apiResponse.setData(Collections.singletonList(employee));
-        ResponseEntity<ApiResponse<List<Employee>>> responseEntity = ResponseEntity.ok(apiResponse);
+    public void getEmployeeById_whenCircuitIsOpen_shouldFallBackToRosterCache() {
+        Employee cached = employee("1", "Tiger");
+        when(employeeApiClient.fetchEmployeeById("1")).thenThrow(new CircuitOpenException("open"));
+        when(rosterCache.findCached("1")).thenReturn(Optional.of(cached));
 
-        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        assertSame(cached, employeeService.getEmployeeById("1"));
+    }
+
+    @Test
+    public void testGetEmployeesByNameSearch() {
+        employeeNameIndex.onReplace(List.of(employee("1", "Tiger"), employee("2", "Jane")));
 
         List<Employee> employees = employeeService.getEmployeesByNameSearch("Tiger");
         assertEquals(1, employees.size());
         assertEquals("Tiger", employees.get(0).getName());
+        verify(rosterCache).getSnapshot();
     }
 
     @Test
     public void getEmployeesByNameSearch_whenNoMatch_shouldReturnEmptyList() {
-        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
-        Employee employee = new Employee();
-        employee.setName("Tiger");
-        apiResponse.setData(Collections.singletonList(employee));
-        ResponseEntity<ApiResponse<List<Employee>>> responseEntity = ResponseEntity.ok(apiResponse);
-
-        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        employeeNameIndex.onReplace(List.of(employee("1", "Tiger")));
 
         List<Employee> employees = employeeService.getEmployeesByNameSearch("Zebra");
         assertEquals(0, employees.size());
@@ -132,29 +130,16 @@ public class EmployeeServiceImplTest {
 
     @Test
     public void testGetHighestSalaryOfEmployees() {
-        Employee emp1 = new Employee();
-        emp1.setSalary(1000);
-        Employee emp2 = new Employee();
-        emp2.setSalary(2000);
-        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
-        apiResponse.setData(List.of(emp1, emp2));
-        ResponseEntity<ApiResponse<List<Employee>>> responseEntity = ResponseEntity.ok(apiResponse);
-
-        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        salaryRanking.onReplace(List.of(employee("1", "John", 1000), employee("2", "Jane", 2000)));
 
         Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
         assertEquals(2000, highestSalary);
+        verify(rosterCache).getSnapshot();
     }
 
     @Test
     public void getHighestSalaryOfEmployees_whenNoEmployees_shouldReturnZero() {
-        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
-        apiResponse.setData(Collections.emptyList());
-        ResponseEntity<ApiResponse<List<Employee>>> responseEntity = ResponseEntity.ok(apiResponse);
-
-        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        salaryRanking.onReplace(List.of());
 
         Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
         assertEquals(0, highestSalary);
@@ -162,18 +147,7 @@ public class EmployeeServiceImplTest {
 
     @Test
     public void testGetTopTenHighestEarningEmployeeNames() {
-        Employee emp1 = new Employee();
-        emp1.setName("John");
-        emp1.setSalary(1000);
-        Employee emp2 = new Employee();
-        emp2.setName("Jane");
-        emp2.setSalary(2000);
-        ApiResponse<List<Employee>> apiResponse = new ApiResponse<>();
-        apiResponse.setData(List.of(emp1, emp2));
-        ResponseEntity<ApiResponse<List<Employee>>> responseEntity = ResponseEntity.ok(apiResponse);
-
-        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        salaryRanking.onReplace(List.of(employee("1", "John", 1000), employee("2", "Jane", 2000)));
 
         List<String> topEarners = employeeService.getTopTenHighestEarningEmployeeNames();
         assertEquals(2, topEarners.size());
@@ -185,59 +159,30 @@ public class EmployeeServiceImplTest {
     public void testCreateEmployee() {
         EmployeeInput employeeInput = new EmployeeInput();
         employeeInput.setName("John Doe");
-        employeeInput.setSalary(50000);
-        employeeInput.setAge(30);
-
-        Employee employee = new Employee();
-        employee.setId("1");
-        employee.setName("John Doe");
-        employee.setSalary(50000);
-        employee.setAge(30);
-
-        ApiResponse<Employee> apiResponse = new ApiResponse<>();
-        apiResponse.setData(employee);
-        ResponseEntity<ApiResponse<Employee>> responseEntity = ResponseEntity.ok(apiResponse);
-
-        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.POST), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(responseEntity);
+        Employee created = employee("1", "John Doe", 50000);
+        when(employeeApiClient.createEmployee(employeeInput)).thenReturn(created);
 
         Employee createdEmployee = employeeService.createEmployee(employeeInput);
         assertEquals("John Doe", createdEmployee.getName());
+        verify(rosterCache).put(created);
     }
 
     @Test
     public void createEmployee_whenApiFails_shouldThrowException() {
         EmployeeInput employeeInput = new EmployeeInput();
-        employeeInput.setName("John Doe");
-
-        when(restTemplate.exchange(eq(MOCK_API_URL), eq(HttpMethod.POST), any(), any(ParameterizedTypeReference.class)))
+        when(employeeApiClient.createEmployee(employeeInput))
                 .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
 
         assertThrows(HttpClientErrorException.class, () -> {
             employeeService.createEmployee(employeeInput);
         });
+        verify(rosterCache, never()).put(any());
     }
 
     @Test
     public void testDeleteEmployeeById() {
-        Employee employee = new Employee();
-        employee.setId("1");
-        employee.setName("Test Employee");
-        ApiResponse<Employee> getApiResponse = new ApiResponse<>();
-        getApiResponse.setData(employee);
-        ResponseEntity<ApiResponse<Employee>> getResponseEntity = ResponseEntity.ok(getApiResponse);
-
-        when(restTemplate.exchange(
-                        eq(MOCK_API_URL + "/1"), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(getResponseEntity);
-
-        ApiResponse<Boolean> deleteApiResponse = new ApiResponse<>();
-        deleteApiResponse.setData(true);
-        ResponseEntity<ApiResponse<Boolean>> deleteResponseEntity = ResponseEntity.ok(deleteApiResponse);
-
-        when(restTemplate.exchange(
-                        eq(MOCK_API_URL), eq(HttpMethod.DELETE), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(deleteResponseEntity);
+        when(employeeApiClient.fetchEmployeeById("1")).thenReturn(employee("1", "Test Employee"));
+        when(employeeApiClient.deleteEmployeeByName(eq("Test Employee"), any())).thenReturn(true);
 
         String result = employeeService.deleteEmployeeById("1");
         assertEquals("Test Employee", result);
@@ -245,19 +190,8 @@ public class EmployeeServiceImplTest {
 
     @Test
     public void deleteEmployeeById_whenApiFails_shouldThrowException() {
-        Employee employee = new Employee();
-        employee.setId("1");
-        employee.setName("Test Employee");
-        ApiResponse<Employee> getApiResponse = new ApiResponse<>();
-        getApiResponse.setData(employee);
-        ResponseEntity<ApiResponse<Employee>> getResponseEntity = ResponseEntity.ok(getApiResponse);
-
-        when(restTemplate.exchange(
-                        eq(MOCK_API_URL + "/1"), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(getResponseEntity);
-
-        when(restTemplate.exchange(
-                        eq(MOCK_API_URL), eq(HttpMethod.DELETE), any(), any(ParameterizedTypeReference.class)))
+        when(employeeApiClient.fetchEmployeeById("1")).thenReturn(employee("1", "Test Employee"));
+        when(employeeApiClient.deleteEmployeeByName(eq("Test Employee"), any()))
                 .thenThrow(new HttpClientErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
 
         assertThrows(HttpClientErrorException.class, () -> {
@@ -267,36 +201,62 @@ public class EmployeeServiceImplTest {
 
     @Test
     public void deleteEmployeeById_whenGetReturnsNotFound_shouldReturnNull() {
-        when(restTemplate.exchange(
-                        eq(MOCK_API_URL + "/1"), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+        when(employeeApiClient.fetchEmployeeById("1")).thenReturn(null);
 
         String result = employeeService.deleteEmployeeById("1");
         assertNull(result);
+        verify(employeeApiClient, never()).deleteEmployeeByName(any(), any());
     }
 
     @Test
     public void deleteEmployeeById_whenDeleteReturnsFalse_shouldReturnNull() {
-        Employee employee = new Employee();
-        employee.setId("1");
-        employee.setName("Test Employee");
-        ApiResponse<Employee> getApiResponse = new ApiResponse<>();
-        getApiResponse.setData(employee);
-        ResponseEntity<ApiResponse<Employee>> getResponseEntity = ResponseEntity.ok(getApiResponse);
+        when(employeeApiClient.fetchEmployeeById("1")).thenReturn(employee("1", "Test Employee"));
+        when(employeeApiClient.deleteEmployeeByName(eq("Test Employee"), any())).thenReturn(false);
 
-        when(restTemplate.exchange(
-                        eq(MOCK_API_URL + "/1"), eq(HttpMethod.GET), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(getResponseEntity);
-
-        ApiResponse<Boolean> deleteApiResponse = new ApiResponse<>();
-        deleteApiResponse.setData(false);
-        ResponseEntity<ApiResponse<Boolean>> deleteResponseEntity = ResponseEntity.ok(deleteApiResponse);
+        String result = employeeService.deleteEmployeeById("1");
+        assertNull(result);
+    }
 
-        when(restTemplate.exchange(
-                        eq(MOCK_API_URL), eq(HttpMethod.DELETE), any(), any(ParameterizedTypeReference.class)))
-                .thenReturn(deleteResponseEntity);
+    @Test
+    public void deleteEmployeeById_whenEmployeeIsIndexed_shouldOnlyCallDelete() {
+        employeeIdIndex.onReplace(List.of(employee("1", "Test Employee")));
+        when(employeeApiClient.deleteEmployeeByName(eq("Test Employee"), any())).thenReturn(true);
 
         String result = employeeService.deleteEmployeeById("1");
-        assertNull(result);
+
+        assertEquals("Test Employee", result);
+        verify(employeeApiClient, never()).fetchEmployeeById(any());
+    }
+
+    @Test
+    public void deleteEmployeeById_whenLookedUpNameIsShared_shouldRefuseWithConflict() {
+        employeeIdIndex.onReplace(List.of(employee("1", "Test Employee"), employee("2", "test employee")));
+        when(employeeApiClient.fetchEmployeeById("2")).thenReturn(employee("2", "test employee"));
+
+        assertThrows(ConflictException.class, () -> employeeService.deleteEmployeeById("2"));
+        verify(rosterCache).getSnapshot();
+        verify(employeeApiClient, never()).deleteEmployeeByName(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void deleteEmployeeById_whenDeleteIsAnsweredAfterCallerGaveUp_shouldStillEvict() {
+        employeeIdIndex.onReplace(List.of(employee("1", "Test Employee")));
+        when(employeeApiClient.deleteEmployeeByName(eq("Test Employee"), any()))
+                .thenThrow(new TooManyRequestsException("Upstream is throttling requests, please retry later"));
+
+        assertThrows(TooManyRequestsException.class, () -> employeeService.deleteEmployeeById("1"));
+        verify(rosterCache, never()).evict("1");
+
+        ArgumentCaptor<Consumer<Boolean>> onResult = ArgumentCaptor.forClass(Consumer.class);
+        verify(employeeApiClient).deleteEmployeeByName(eq("Test Employee"), onResult.capture());
+        onResult.getValue().accept(true);
+
+        verify(rosterCache).evict("1");
+        assertTrue(employeeIdIndex.nameOf("1").isEmpty());
+    }
+
+    private static RosterSnapshot loaded(Employee... employees) {
+        return new RosterSnapshot(List.of(employees), Instant.now());
     }
 }
@@ -0,0 +1,87 @@
+package com.reliaquest.api.service;
+
+import static com.reliaquest.api.TestFixtures.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterSnapshot;
+import com.reliaquest.api.client.EmployeeRosterStream;
+import com.reliaquest.api.model.Employee;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class EmployeeStreamServiceTest {
+    @Mock
+    private RosterCache rosterCache;
+
+    @Mock
+    private EmployeeRosterStream employeeRosterStream;
+
+    private EmployeeStreamService employeeStreamService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        employeeStreamService = new EmployeeStreamService(rosterCache, employeeRosterStream);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void streamAllEmployees_whenCacheIsFresh_shouldReplaySnapshotWithoutUpstream() {
+        Employee employee = new Employee();
+        employee.setId("1");
+        when(rosterCache.getFreshSnapshot())
+                .thenReturn(Optional.of(new RosterSnapshot(List.of(employee), Instant.now())));
+
+        List<Employee> streamed = new ArrayList<>();
+        employeeStreamService.streamAllEmployees(streamed::add);
+
+        assertEquals(List.of(employee), streamed);
+        verify(employeeRosterStream, never()).visit(any(Predicate.class));
+    }
+
+    @Test
+    public void streamAllEmployees_whenCacheIsNotFresh_shouldStreamFromUpstream() {
+        when(rosterCache.getFreshSnapshot()).thenReturn(Optional.empty());
+        Predicate<Employee> visitor = employee -> true;
+
+        employeeStreamService.streamAllEmployees(visitor);
+
+        verify(employeeRosterStream).visit(visitor);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void uncachedReads_shouldScanUpstreamWithoutTouchingCache() {
+        doAnswer(invocation -> {
+                    Predicate<Employee> visitor = invocation.getArgument(0);
+                    visitor.test(employee("1", "Tiger Nixon", 320_800));
+                    visitor.test(employee("2", "Bill Bob", 100_000));
+                    return null;
+                })
+                .when(employeeRosterStream)
+                .visit(any(Predicate.class));
+
+        assertEquals(List.of("1"), ids(employeeStreamService.searchUpstream("tig")));
+        assertEquals(320_800, employeeStreamService.highestSalaryUpstream());
+        assertEquals(List.of("Tiger Nixon"), employeeStreamService.topEarnerNamesUpstream(1));
+        verifyNoInteractions(rosterCache);
+    }
+
+    private static List<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::getId).toList();
+    }
+}
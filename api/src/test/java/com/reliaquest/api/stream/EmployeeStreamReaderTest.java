@@ -0,0 +1,76 @@
+package com.reliaquest.api.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.Employee;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class EmployeeStreamReaderTest {
+    private static final String ROSTER = """
+            {
+              "status": "Successfully processed request.",
+              "meta": {"ignored": [1, 2, {"nested": true}]},
+              "data": [
+                {"id": "1", "employee_name": "Tiger Nixon", "employee_salary": 320800, "employee_age": 61,
+                 "employee_title": "Architect", "employee_email": "tnixon@company.com"},
+                {"id": "2", "employee_name": "Bill Bob", "employee_salary": 89750, "employee_age": 24,
+                 "employee_title": "Engineer", "employee_email": "bbob@company.com"},
+                {"id": "3", "employee_name": "Jill Jenkins", "employee_salary": 139082, "employee_age": 48,
+                 "employee_title": "Advisor", "employee_email": "jillj@company.com"}
+              ]
+            }
+            """;
+
+    private final EmployeeStreamReader reader = new EmployeeStreamReader(new ObjectMapper());
+
+    @Test
+    public void read_shouldBindEveryEmployeeInOrder() throws IOException {
+        List<Employee> employees = new ArrayList<>();
+
+        int read = reader.read(body(ROSTER), employees::add);
+
+        assertEquals(3, read);
+        assertEquals(List.of("1", "2", "3"), employees.stream().map(Employee::getId).toList());
+        assertEquals("Tiger Nixon", employees.get(0).getName());
+        assertEquals(320800, employees.get(0).getSalary());
+        assertEquals("bbob@company.com", employees.get(1).getEmail());
+    }
+
+    @Test
+    public void read_whenVisitorStops_shouldNotBindTheRest() throws IOException {
+        List<Employee> employees = new ArrayList<>();
+
+        int read = reader.read(body(ROSTER), employee -> {
+            employees.add(employee);
+            return !"2".equals(employee.getId());
+        });
+
+        assertEquals(2, read);
+        assertEquals(2, employees.size());
+    }
+
+    @Test
+    public void read_whenDataIsMissingOrNull_shouldReadNothing() throws IOException {
+        assertEquals(0, reader.read(body("{\"status\": \"ok\"}"), employee -> true));
+        assertEquals(0, reader.read(body("{\"data\": null, \"status\": \"ok\"}"), employee -> true));
+        assertEquals(0, reader.read(body("{\"data\": []}"), employee -> true));
+    }
+
+    @Test
+    public void read_whenBodyIsNotAnObject_shouldThrow() {
+        assertThrows(JsonParseException.class, () -> reader.read(body("[1, 2]"), employee -> true));
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
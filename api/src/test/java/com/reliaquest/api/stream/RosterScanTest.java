@@ -0,0 +1,60 @@
+package com.reliaquest.api.stream;
+
+import static com.reliaquest.api.TestFixtures.employee;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.reliaquest.api.index.EmployeeNameIndex;
+import com.reliaquest.api.index.SalaryRanking;
+import com.reliaquest.api.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class RosterScanTest {
+
+    @Test
+    public void search_shouldMatchCaseInsensitiveSubstringInRosterOrder() {
+        EmployeeSource source = EmployeeSource.of(
+                List.of(employee("1", "Tiger Nixon", 1), employee("2", "Bill Bob", 2), employee("3", "Nina Tig", 3)));
+
+        List<Employee> matches = RosterScan.search(source, "TIG");
+
+        assertEquals(List.of("1", "3"), matches.stream().map(Employee::getId).toList());
+    }
+
+    @Test
+    public void highestSalary_shouldReturnMaximumOrZeroWhenEmpty() {
+        assertEquals(0, RosterScan.highestSalary(EmployeeSource.of(List.of())));
+        assertEquals(
+                300,
+                RosterScan.highestSalary(EmployeeSource.of(
+                        List.of(employee("1", "A", 100), employee("2", "B", 300), employee("3", "C", 200)))));
+    }
+
+    @Test
+    public void topNames_whenRosterIsSmallerThanLimit_shouldReturnEveryone() {
+        List<String> names = RosterScan.topNames(
+                EmployeeSource.of(List.of(employee("1", "Low", 10), employee("2", "High", 20))), 10);
+
+        assertEquals(List.of("High", "Low"), names);
+    }
+
+    @Test
+    public void scans_shouldAnswerLikeTheIndexes() {
+        Random random = new Random(7);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            roster.add(employee(String.valueOf(i), "Employee " + i, random.nextInt(50)));
+        }
+        EmployeeNameIndex employeeNameIndex = new EmployeeNameIndex();
+        employeeNameIndex.onReplace(roster);
+        SalaryRanking salaryRanking = new SalaryRanking();
+        salaryRanking.onReplace(roster);
+        EmployeeSource source = EmployeeSource.of(roster);
+
+        assertEquals(employeeNameIndex.search("YEE 4"), RosterScan.search(source, "YEE 4"));
+        assertEquals(salaryRanking.highestSalary(), RosterScan.highestSalary(source));
+        assertEquals(salaryRanking.topNames(10), RosterScan.topNames(source, 10));
+    }
+}
@@ -0,0 +1,52 @@
+package com.reliaquest.api.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ServerSentEventReaderTest {
+    private final ServerSentEventReader reader = new ServerSentEventReader();
+
+    @Test
+    public void read_shouldDispatchEachEventWithItsIdAndName() throws IOException {
+        List<ServerSentEventReader.Event> events = new ArrayList<>();
+
+        reader.read(
+                body("id:1700-5\nevent:change\ndata:{\"sequence\":5}\n\nid: 1700-6\nevent: change\ndata: {}\n\n"),
+                events::add);
+
+        assertEquals(
+                List.of(
+                        new ServerSentEventReader.Event("1700-5", "change", "{\"sequence\":5}"),
+                        new ServerSentEventReader.Event("1700-6", "change", "{}")),
+                events);
+    }
+
+    @Test
+    public void read_shouldSkipCommentsAndJoinMultiLineData() throws IOException {
+        List<ServerSentEventReader.Event> events = new ArrayList<>();
+
+        reader.read(body(":heartbeat\n\ndata:first\n: in between\ndata:second\nretry:1000\n\n"), events::add);
+
+        assertEquals(List.of(new ServerSentEventReader.Event(null, null, "first\nsecond")), events);
+    }
+
+    @Test
+    public void read_shouldNotDispatchEventWithoutDataOrTerminatingBlankLine() throws IOException {
+        List<ServerSentEventReader.Event> events = new ArrayList<>();
+
+        reader.read(body("id:1\nevent:change\n\nid:2\ndata:cut off"), events::add);
+
+        assertEquals(List.of(), events);
+    }
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,134 @@
+package com.reliaquest.api.trace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class TraceFilterTest {
+    private SlowTraceLog slowTraceLog;
+
+    private TraceFilter traceFilter;
+
+    @BeforeEach
+    public void setUp() {
+        slowTraceLog = new SlowTraceLog(Duration.ZERO, 10);
+        traceFilter = new TraceFilter(slowTraceLog);
+    }
+
+    @Test
+    public void doFilter_shouldRecordNestedSpansOfTheRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employees/search/ti");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        traceFilter.doFilter(request, response, chain(() -> {
+            Traces.span("service.roster", () -> Traces.span("upstream.fetchAllEmployees", () -> {}));
+            Traces.span("service.filter", () -> {});
+        }));
+
+        SlowTrace trace = slowTraceLog.recent().get(0);
+        assertEquals(response.getHeader(TraceFilter.TRACE_ID_HEADER), trace.traceId());
+        assertEquals(32, trace.traceId().length());
+        assertEquals("/api/v1/employees/search/ti", trace.path());
+        List<TraceSpan> spans = trace.spans();
+        assertEquals(List.of("service.roster", "upstream.fetchAllEmployees", "service.filter"), names(spans));
+        assertEquals(List.of(0, 1, 0), spans.stream().map(TraceSpan::depth).toList());
+        assertTrue(Traces.currentTraceId().isEmpty());
+    }
+
+    @Test
+    public void doFilter_shouldReuseIncomingTraceIdAndExposeItDuringTheRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employees");
+        request.addHeader(TraceFilter.TRACE_ID_HEADER, "caller-trace-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String[] seen = new String[1];
+
+        traceFilter.doFilter(request, response, chain(() -> seen[0] = Traces.currentTraceId().orElse(null)));
+
+        assertEquals("caller-trace-1", seen[0]);
+        assertEquals("caller-trace-1", response.getHeader(TraceFilter.TRACE_ID_HEADER));
+        assertNotNull(slowTraceLog.find("caller-trace-1").orElse(null));
+    }
+
+    @Test
+    public void doFilter_whenRequestGoesAsync_shouldRecordTheTraceWhenItCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employees/stream");
+        request.setAsyncSupported(true);
+        request.addHeader(TraceFilter.TRACE_ID_HEADER, "async-trace-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        traceFilter.doFilter(request, response, chain(() -> {
+            Traces.span("service.roster", () -> {});
+            request.startAsync();
+        }));
+
+        assertEquals(List.of(), slowTraceLog.recent());
+        assertTrue(Traces.currentTraceId().isEmpty());
+
+        Thread.sleep(50);
+        response.setStatus(503);
+        request.getAsyncContext().complete();
+
+        SlowTrace trace = slowTraceLog.find("async-trace-1").orElseThrow();
+        assertEquals(503, trace.status());
+        assertTrue(trace.durationMicros() >= 50_000);
+        assertEquals(List.of("service.roster"), names(trace.spans()));
+    }
+
+    @Test
+    public void doFilter_whenFasterThanThreshold_shouldNotKeepTheTrace() throws Exception {
+        slowTraceLog = new SlowTraceLog(Duration.ofMinutes(1), 10);
+        traceFilter = new TraceFilter(slowTraceLog);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        traceFilter.doFilter(new MockHttpServletRequest("GET", "/api/v1/employees"), response, new MockFilterChain());
+
+        assertNotNull(response.getHeader(TraceFilter.TRACE_ID_HEADER));
+        assertEquals(List.of(), slowTraceLog.recent());
+    }
+
+    @Test
+    public void slowTraceLog_shouldKeepOnlyTheNewestTraces() throws Exception {
+        slowTraceLog = new SlowTraceLog(Duration.ZERO, 2);
+        traceFilter = new TraceFilter(slowTraceLog);
+
+        for (int i = 1; i <= 3; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/employees");
+            request.addHeader(TraceFilter.TRACE_ID_HEADER, "trace-" + i);
+            traceFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        assertEquals(
+                List.of("trace-3", "trace-2"),
+                slowTraceLog.recent().stream().map(SlowTrace::traceId).toList());
+    }
+
+    @Test
+    public void span_outsideOfRequest_shouldJustRunTheWork() {
+        assertEquals("ok", Traces.span("service.filter", () -> "ok"));
+        assertTrue(Traces.currentTraceId().isEmpty());
+    }
+
+    private static MockFilterChain chain(Runnable handler) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                handler.run();
+            }
+        });
+    }
+
+    private static List<String> names(List<TraceSpan> spans) {
+        return spans.stream().map(TraceSpan::name).toList();
+    }
+}
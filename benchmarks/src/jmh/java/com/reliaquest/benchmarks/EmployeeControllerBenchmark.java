@@ -0,0 +1,71 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.controller.EmployeeController;
+import com.reliaquest.api.exception.BadRequestException;
+import com.reliaquest.api.index.EmployeeIdIndex;
+import com.reliaquest.api.index.EmployeeNameIndex;
+import com.reliaquest.api.index.SalaryRanking;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeServiceImpl;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * The id validation in front of {@code GET /api/v1/employees/{id}}: the UUID format check for a well-formed
+ * id, and the rejection path for a malformed one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeControllerBenchmark {
+    private EmployeeController employeeController;
+    private String validId;
+    private String invalidId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Employee> roster = RosterFixtures.employees(50);
+        EmployeeApiClient client = RosterFixtures.stubClient(roster);
+        EmployeeNameIndex employeeNameIndex = new EmployeeNameIndex();
+        SalaryRanking salaryRanking = new SalaryRanking();
+        employeeController = new EmployeeController(new EmployeeServiceImpl(
+                client,
+                RosterFixtures.cache(client, List.of(employeeNameIndex, salaryRanking)),
+                employeeNameIndex,
+                salaryRanking,
+                new EmployeeIdIndex()));
+        validId = UUID.randomUUID().toString();
+        invalidId = validId.substring(1) + "z";
+    }
+
+    @Benchmark
+    public ResponseEntity<Employee> getEmployeeByValidId() {
+        return employeeController.getEmployeeById(validId);
+    }
+
+    @Benchmark
+    public Object rejectInvalidId() {
+        try {
+            return employeeController.getEmployeeById(invalidId);
+        } catch (BadRequestException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.index.EmployeeIdIndex;
+import com.reliaquest.api.index.EmployeeNameIndex;
+import com.reliaquest.api.index.SalaryRanking;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.service.EmployeeServiceImpl;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The three roster-wide read paths of {@link EmployeeServiceImpl}, served from a warm cache, next to the linear
+ * implementations they replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    @Param({"50", "1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    @Param({"an", "linmar", "zzz"})
+    public String searchTerm;
+
+    private List<Employee> roster;
+    private EmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roster = RosterFixtures.employees(rosterSize);
+        EmployeeApiClient client = RosterFixtures.stubClient(roster);
+        EmployeeNameIndex employeeNameIndex = new EmployeeNameIndex();
+        SalaryRanking salaryRanking = new SalaryRanking();
+        EmployeeIdIndex employeeIdIndex = new EmployeeIdIndex();
+        RosterCache rosterCache =
+                RosterFixtures.cache(client, List.of(employeeNameIndex, salaryRanking, employeeIdIndex));
+        employeeService =
+                new EmployeeServiceImpl(client, rosterCache, employeeNameIndex, salaryRanking, employeeIdIndex);
+        employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> searchByName() {
+        return employeeService.getEmployeesByNameSearch(searchTerm);
+    }
+
+    @Benchmark
+    public List<Employee> searchByNameLinearScan() {
+        return roster.stream()
+                .filter(employee -> employee.getName().toLowerCase().contains(searchTerm.toLowerCase()))
+                .toList();
+    }
+
+    @Benchmark
+    public Integer highestSalary() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+
+    @Benchmark
+    public Integer highestSalaryStream() {
+        return roster.stream().map(Employee::getSalary).max(Integer::compareTo).orElse(0);
+    }
+
+    @Benchmark
+    public List<String> topTenNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public List<String> topTenNamesSort() {
+        return roster.stream()
+                .sorted((e1, e2) -> e2.getSalary().compareTo(e1.getSalary()))
+                .limit(10)
+                .map(Employee::getName)
+                .toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Delete by name on the mock server: {@link MockEmployeeStore#removeByName} next to the list scan it replaced, an
+ * {@code equalsIgnoreCase} filter followed by {@code ArrayList.remove(Object)}.
+ *
+ * <p>Every name is shared by two employees. Each operation deletes a randomly chosen name, given in upper case, and
+ * adds the removed employee back so the roster keeps its size. In the list that puts it at the end, so the next target
+ * can sit anywhere in the list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MockEmployeeDeleteBenchmark {
+    private static final int TARGETS = 1 << 16;
+
+    @Param({"100000", "1000000"})
+    public int rosterSize;
+
+    private MockEmployeeStore store;
+    private List<MockEmployee> list;
+    private String[] targets;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        store = new MockEmployeeStore(10_000);
+        list = new ArrayList<>(rosterSize);
+        for (int i = 0; i < rosterSize; i++) {
+            MockEmployee mockEmployee = new MockEmployee(
+                    new UUID(random.nextLong(), random.nextLong()),
+                    name(i / 2),
+                    30_000 + random.nextInt(470_000),
+                    16 + random.nextInt(54),
+                    "Engineer",
+                    "employee" + i + "@company.com");
+            store.add(mockEmployee);
+            list.add(mockEmployee);
+        }
+        targets = new String[TARGETS];
+        for (int i = 0; i < TARGETS; i++) {
+            targets[i] = name(random.nextInt(rosterSize / 2)).toUpperCase();
+        }
+    }
+
+    @Benchmark
+    public MockEmployee deleteByName() {
+        MockEmployee removed = store.removeByName(nextTarget()).orElseThrow();
+        store.add(removed);
+        return removed;
+    }
+
+    @Benchmark
+    public MockEmployee deleteByNameListScan() {
+        String name = nextTarget();
+        MockEmployee removed = list.stream()
+                .filter(employee -> Objects.nonNull(employee.getName())
+                        && employee.getName().equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow();
+        list.remove(removed);
+        list.add(removed);
+        return removed;
+    }
+
+    private String nextTarget() {
+        String target = targets[next];
+        next = (next + 1) & (TARGETS - 1);
+        return target;
+    }
+
+    private static String name(int i) {
+        return "Employee " + i;
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jackson binding of a full upstream roster response, as {@code RestTemplate} does it for {@code getAllEmployees}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RosterDeserializationBenchmark {
+    private static final TypeReference<ApiResponse<List<Employee>>> ROSTER_RESPONSE = new TypeReference<>() {};
+
+    @Param({"50", "1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        json = RosterFixtures.responseBody(objectMapper, rosterSize);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Employee>> bindRoster() throws IOException {
+        return objectMapper.readValue(json, ROSTER_RESPONSE);
+    }
+}
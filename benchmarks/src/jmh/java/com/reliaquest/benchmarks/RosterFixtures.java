@@ -0,0 +1,98 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.cache.RosterCache;
+import com.reliaquest.api.cache.RosterListener;
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.client.VersionedRoster;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic rosters and a stubbed upstream for the benchmarks.
+ */
+final class RosterFixtures {
+    private static final String[] SYLLABLES = {
+        "an", "ber", "cal", "da", "el", "fin", "gar", "hol", "is", "jo", "ka", "lin", "mar", "nor", "ol", "pa", "quin",
+        "ros", "sa", "tor", "ul", "ven", "wil", "xa", "yo", "zel"
+    };
+    private static final String[] TITLES = {
+        "Engineer", "Senior Engineer", "Staff Engineer", "Analyst", "Designer", "Product Manager", "Director",
+        "Accountant", "Recruiter", "Support Specialist", "Data Scientist", "Architect", "Consultant", "Administrator"
+    };
+
+    private RosterFixtures() {}
+
+    static List<Employee> employees(int size) {
+        Random random = new Random(size);
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Employee employee = new Employee();
+            employee.setId(new UUID(random.nextLong(), random.nextLong()).toString());
+            employee.setName(capitalize(word(random)) + " " + capitalize(word(random)));
+            employee.setSalary(30_000 + random.nextInt(470_000));
+            employee.setAge(16 + random.nextInt(55));
+            employee.setTitle(TITLES[random.nextInt(TITLES.length)]);
+            employee.setEmail(employee.getName().replace(' ', '.').toLowerCase() + "@company.com");
+            employees.add(employee);
+        }
+        return employees;
+    }
+
+    /**
+     * The serialized upstream response for a roster of the given size, as the mock server sends it.
+     */
+    static byte[] responseBody(ObjectMapper objectMapper, int size) throws JsonProcessingException {
+        ApiResponse<List<Employee>> response = new ApiResponse<>();
+        response.setStatus("Successfully processed request.");
+        response.setData(employees(size));
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    /**
+     * An upstream client that never leaves the JVM and always returns the given roster.
+     */
+    static EmployeeApiClient stubClient(List<Employee> roster) {
+        return new EmployeeApiClient(null, "stub", null, null, null, null, 0) {
+            @Override
+            public Optional<VersionedRoster> fetchRosterIfChanged(String etag) {
+                return Optional.of(new VersionedRoster(roster, null));
+            }
+
+            @Override
+            public Employee fetchEmployeeById(String id) {
+                return roster.get(0);
+            }
+        };
+    }
+
+    /**
+     * A cache that stays fresh for the whole benchmark run, so measurements never include an upstream reload. It has no
+     * async client, since only background refreshes and async reads would use one.
+     */
+    static RosterCache cache(EmployeeApiClient client, List<RosterListener> listeners) {
+        return new RosterCache(
+                client, null, Duration.ofHours(1), Duration.ZERO, Duration.ofHours(1), Clock.systemUTC(), listeners);
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(2);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
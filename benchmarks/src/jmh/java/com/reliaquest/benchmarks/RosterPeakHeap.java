@@ -0,0 +1,69 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.stream.EmployeeStreamReader;
+import com.reliaquest.api.stream.RosterScan;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Peak heap used while answering top ten from a roster response body, bound versus streamed.
+ *
+ * <p>JMH reports allocation, not how much is live at once, so this runs each approach once after a full GC and reads
+ * the peak usage of the heap pools. Run it with a serial collector and a small young generation (the {@code peakHeap}
+ * task does) so collections happen often and the old generation peak follows what is actually retained. The figures
+ * are above the baseline of the response bytes, which both approaches share.
+ */
+public final class RosterPeakHeap {
+    private static final TypeReference<ApiResponse<List<Employee>>> ROSTER_RESPONSE = new TypeReference<>() {};
+
+    private RosterPeakHeap() {}
+
+    public static void main(String[] args) throws Exception {
+        int rosterSize = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        ObjectMapper objectMapper = new ObjectMapper();
+        EmployeeStreamReader employeeStreamReader = new EmployeeStreamReader(objectMapper);
+        byte[] json = RosterFixtures.responseBody(objectMapper, rosterSize);
+        System.out.printf("roster: %,d employees, response body %,d KB%n", rosterSize, json.length / 1024);
+
+        report("bound", () -> objectMapper.readValue(json, ROSTER_RESPONSE).getData().stream()
+                .sorted(Comparator.comparing(Employee::getSalary).reversed())
+                .limit(10)
+                .map(Employee::getName)
+                .toList());
+        report("streamed", () -> RosterScan.topNames(
+                visitor -> {
+                    try {
+                        employeeStreamReader.read(new ByteArrayInputStream(json), visitor);
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                },
+                10));
+    }
+
+    private static void report(String approach, Callable<List<String>> topTen) throws Exception {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        System.gc();
+        long baseline = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        List<String> result = topTen.call();
+
+        long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        System.out.printf(
+                "%-9s peak heap above baseline: %,d KB (top earner: %s)%n",
+                approach, (peak - baseline) / 1024, result.get(0));
+    }
+}
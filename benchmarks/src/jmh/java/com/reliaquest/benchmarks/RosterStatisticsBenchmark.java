@@ -0,0 +1,71 @@
+package com.reliaquest.benchmarks;
+
+import com.reliaquest.api.index.ColumnarRoster;
+import com.reliaquest.api.index.RosterColumn;
+import com.reliaquest.api.model.ColumnStatistics;
+import com.reliaquest.api.model.Employee;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Salary aggregates from the {@link ColumnarRoster} columns compared with the same aggregates computed by streaming
+ * the boxed {@code Employee} list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RosterStatisticsBenchmark {
+
+    @Param({"50", "1000", "10000", "100000", "1000000"})
+    public int rosterSize;
+
+    private List<Employee> roster;
+    private ColumnarRoster columnarRoster;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        roster = RosterFixtures.employees(rosterSize);
+        columnarRoster = new ColumnarRoster();
+        columnarRoster.onReplace(roster);
+    }
+
+    @Benchmark
+    public ColumnStatistics columnarStatistics() {
+        return columnarRoster.statistics(RosterColumn.SALARY);
+    }
+
+    @Benchmark
+    public IntSummaryStatistics objectListStatistics() {
+        return roster.stream().map(Employee::getSalary).collect(Collectors.summarizingInt(Integer::intValue));
+    }
+
+    @Benchmark
+    public Map<String, ColumnStatistics> columnarStatisticsByTitle() {
+        return columnarRoster.statisticsByTitle(RosterColumn.SALARY);
+    }
+
+    @Benchmark
+    public Map<String, IntSummaryStatistics> objectListStatisticsByTitle() {
+        return roster.stream()
+                .collect(Collectors.groupingBy(
+                        Employee::getTitle, Collectors.summarizingInt(employee -> employee.getSalary())));
+    }
+}
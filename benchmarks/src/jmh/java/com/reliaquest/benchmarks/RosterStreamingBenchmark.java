@@ -0,0 +1,94 @@
+package com.reliaquest.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.Employee;
+import com.reliaquest.api.stream.EmployeeSource;
+import com.reliaquest.api.stream.EmployeeStreamReader;
+import com.reliaquest.api.stream.RosterScan;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Answering highest salary and top ten straight from a roster response body: binding the whole
+ * {@code ApiResponse<List<Employee>>} and then aggregating, against a single streamed pass with
+ * {@link EmployeeStreamReader} and {@link RosterScan}. Peak heap for the same comparison is measured by
+ * {@link RosterPeakHeap}; here the GC profiler's {@code gc.alloc.rate.norm} shows the allocation per answer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RosterStreamingBenchmark {
+    private static final TypeReference<ApiResponse<List<Employee>>> ROSTER_RESPONSE = new TypeReference<>() {};
+
+    @Param({"10000", "100000", "1000000"})
+    public int rosterSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final EmployeeStreamReader employeeStreamReader = new EmployeeStreamReader(objectMapper);
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        json = RosterFixtures.responseBody(objectMapper, rosterSize);
+        if (!highestSalaryBound().equals(highestSalaryStreamed())
+                || !topTenNamesBound().equals(topTenNamesStreamed())) {
+            throw new IllegalStateException("Streamed answers differ from the bound ones");
+        }
+    }
+
+    @Benchmark
+    public Integer highestSalaryBound() throws IOException {
+        List<Employee> employees = objectMapper.readValue(json, ROSTER_RESPONSE).getData();
+        return employees.stream().map(Employee::getSalary).max(Integer::compareTo).orElse(0);
+    }
+
+    @Benchmark
+    public int highestSalaryStreamed() {
+        return RosterScan.highestSalary(streamed());
+    }
+
+    @Benchmark
+    public List<String> topTenNamesBound() throws IOException {
+        List<Employee> employees = objectMapper.readValue(json, ROSTER_RESPONSE).getData();
+        return employees.stream()
+                .sorted((e1, e2) -> e2.getSalary().compareTo(e1.getSalary()))
+                .limit(10)
+                .map(Employee::getName)
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> topTenNamesStreamed() {
+        return RosterScan.topNames(streamed(), 10);
+    }
+
+    private EmployeeSource streamed() {
+        return visitor -> {
+            try {
+                employeeStreamReader.read(new ByteArrayInputStream(json), visitor);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
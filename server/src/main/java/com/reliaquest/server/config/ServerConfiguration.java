@@ -1,12 +1,13 @@
 package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.store.MockEmployeeStore;
+import com.reliaquest.server.web.MockEmployeeEventBroadcaster;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
-import java.util.List;
+import com.reliaquest.server.web.TraceIdFilter;
+import java.time.Duration;
 import java.util.Locale;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
@@ -31,10 +32,13 @@ public class ServerConfiguration implements WebMvcConfigurer {
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * This store is modifiable by design for CRUD operations.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
+    public MockEmployeeStore mockEmployeeStore(
+            Faker faker,
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.changes.max-retained:10000}") int maxRetainedChanges) {
         final var transformer = new JavaObjectTransformer();
         final var schema = Schema.of(
                 Field.field("id", UUID::randomUUID),
@@ -46,14 +50,32 @@ public class ServerConfiguration implements WebMvcConfigurer {
                         "email",
                         () -> EMAIL_TEMPLATE.formatted(
                                 faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
+        final var mockEmployeeStore = new MockEmployeeStore(maxRetainedChanges);
+        IntStream.rangeClosed(1, maxEmployees)
                 .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
                 .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+                .forEach(mockEmployeeStore::add);
+        return mockEmployeeStore;
     }
 
+    @Bean(destroyMethod = "close")
+    public MockEmployeeEventBroadcaster mockEmployeeEventBroadcaster(
+            MockEmployeeStore mockEmployeeStore,
+            @Value("${mock.events.timeout:30m}") Duration timeout,
+            @Value("${mock.events.heartbeat:15s}") Duration heartbeat) {
+        return new MockEmployeeEventBroadcaster(mockEmployeeStore, timeout, heartbeat);
+    }
+
+    @Bean
+    public TraceIdFilter traceIdFilter() {
+        return new TraceIdFilter();
+    }
+
+    /*
+     * The event stream is one long-lived request that replaces polling, so it does not count against the limit.
+     */
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new RandomRequestLimitInterceptor());
+        registry.addInterceptor(new RandomRequestLimitInterceptor()).excludePathPatterns("/api/v1/employee/events");
     }
 }
@@ -3,21 +3,28 @@ package com.reliaquest.server.controller;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
 import com.reliaquest.server.model.Response;
 import com.reliaquest.server.service.MockEmployeeService;
+import com.reliaquest.server.web.MockEmployeeEventBroadcaster;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -26,9 +33,46 @@ public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
 
+    private final MockEmployeeEventBroadcaster mockEmployeeEventBroadcaster;
+
+    /*
+     * The full list carries the roster version as its ETag (set by checkNotModified) and is answered with 304 when
+     * If-None-Match still matches. Pages are always sent in full.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public ResponseEntity<Response<List<MockEmployee>>> getEmployees(
+            @RequestParam(name = "after", required = false) UUID after,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            WebRequest webRequest) {
+        if (after == null && limit == null) {
+            final var etag = "\"" + mockEmployeeService.getRosterVersion() + "\"";
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok(Response.handledWith(mockEmployeeService.getMockEmployees()));
+        }
+        return ResponseEntity.ok(Response.handledWith(mockEmployeeService.getMockEmployeePage(after, limit)));
+    }
+
+    /*
+     * Creates and deletes after the given roster version (an ETag of the full list, without quotes). 410 tells the
+     * caller to read the full list again.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<Response<MockEmployeeChanges>> getChanges(@RequestParam(name = "since") String since) {
+        return mockEmployeeService
+                .getChangesSince(since)
+                .map(changes -> ResponseEntity.ok(Response.handledWith(changes)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.GONE)
+                        .body(Response.error("Changes since " + since + " are no longer available")));
+    }
+
+    /*
+     * Server-Sent Events stream of creates and deletes, resumed after Last-Event-ID when the client sends one.
+     */
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return mockEmployeeEventBroadcaster.subscribe(lastEventId);
     }
 
     @GetMapping("/{id}")
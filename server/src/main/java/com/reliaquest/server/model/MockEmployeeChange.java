@@ -0,0 +1,13 @@
+package com.reliaquest.server.model;
+
+/*
+ * One entry of the roster change log. The sequence is the roster version the change produced. A deleted employee is
+ * carried as it was when it was removed.
+ */
+public record MockEmployeeChange(long sequence, Type type, MockEmployee employee) {
+
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+}
@@ -0,0 +1,8 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+
+/*
+ * The changes after a given roster version, oldest first, and the version they bring the roster to.
+ */
+public record MockEmployeeChanges(String version, List<MockEmployeeChange> changes) {}
@@ -4,11 +4,11 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import com.reliaquest.server.store.MockEmployeeStore;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,16 +20,32 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class MockEmployeeService {
 
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 10_000;
+
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore mockEmployeeStore;
+
+    public List<MockEmployee> getMockEmployees() {
+        return mockEmployeeStore.findAll();
+    }
+
+    public String getRosterVersion() {
+        return mockEmployeeStore.version();
+    }
+
+    public Optional<MockEmployeeChanges> getChangesSince(@NonNull String since) {
+        return mockEmployeeStore.findChangesSince(since);
+    }
+
+    public List<MockEmployee> getMockEmployeePage(UUID after, Integer limit) {
+        final var pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return mockEmployeeStore.findPage(after, pageSize);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return mockEmployeeStore.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,18 +53,14 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        mockEmployeeStore.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
+        final var mockEmployee = mockEmployeeStore.removeByName(input.getName());
         if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
             log.debug("Removed employee: {}", mockEmployee.get());
             return true;
         }
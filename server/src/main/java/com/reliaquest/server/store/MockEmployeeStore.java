@@ -0,0 +1,197 @@
+package com.reliaquest.server.store;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.model.MockEmployeeChanges;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * Thread-safe home of the mock roster. Lookups by id are served straight from a ConcurrentHashMap and listing walks a
+ * skip list ordered by id, so neither takes a lock. Ordering by id keeps keyset cursors valid even when the employee a
+ * cursor points at has since been deleted. Writes are serialized on a single monitor so the id index, the ordering and
+ * the case-insensitive name index always move together.
+ *
+ * The name index maps each case-folded name to its employees keyed by id in insertion order, so deleting by name and
+ * unlinking a replaced record are both O(1). When several employees share a name, deleting by that name removes the
+ * one added earliest. Re-adding an existing id counts as a new addition and moves it behind the others of its name.
+ *
+ * Every write bumps a roster version once its changes are visible, and appends the change to an in-memory log that
+ * keeps the latest maxRetainedChanges entries. A caller that labels a listing with the version reads the version first,
+ * so a label can only be older than the listing, never newer. The epoch tells versions of different server runs apart.
+ * Change listeners are called under the write lock, in version order, and must hand the change off rather than block.
+ */
+@RequiredArgsConstructor
+public class MockEmployeeStore {
+
+    private final Map<UUID, MockEmployee> employeesById = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<UUID, MockEmployee> employeesInOrder = new ConcurrentSkipListMap<>();
+    private final Map<String, LinkedHashMap<UUID, MockEmployee>> employeesByName = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final AtomicLong version = new AtomicLong();
+    private final long epoch = System.currentTimeMillis();
+    private final Deque<MockEmployeeChange> changes = new ArrayDeque<>();
+    private final List<Consumer<MockEmployeeChange>> changeListeners = new CopyOnWriteArrayList<>();
+    private final int maxRetainedChanges;
+
+    public Optional<MockEmployee> findById(@NonNull UUID uuid) {
+        return Optional.ofNullable(employeesById.get(uuid));
+    }
+
+    public List<MockEmployee> findAll() {
+        return new ArrayList<>(employeesInOrder.values());
+    }
+
+    /*
+     * Keyset page: up to limit employees whose id sorts after the given cursor, or from the start when it is null.
+     */
+    public List<MockEmployee> findPage(UUID after, int limit) {
+        final var tail = after == null ? employeesInOrder : employeesInOrder.tailMap(after, false);
+        return tail.values().stream().limit(limit).toList();
+    }
+
+    public int size() {
+        return employeesById.size();
+    }
+
+    /*
+     * Changes whenever the roster does, as <epoch>-<counter>.
+     */
+    public String version() {
+        return version(version.get());
+    }
+
+    public String version(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    public void addChangeListener(@NonNull Consumer<MockEmployeeChange> listener) {
+        changeListeners.add(listener);
+    }
+
+    /*
+     * Runs the action under the write lock, so that no change is recorded while it reads the log and registers for
+     * what follows.
+     */
+    public void atomically(@NonNull Runnable action) {
+        synchronized (writeLock) {
+            action.run();
+        }
+    }
+
+    /*
+     * The changes made after the given version, or empty when that version is from another server run, malformed, or
+     * so old that the log no longer covers it.
+     */
+    public Optional<MockEmployeeChanges> findChangesSince(@NonNull String since) {
+        final var separator = since.indexOf('-');
+        final long sinceEpoch;
+        final long sinceSequence;
+        try {
+            sinceEpoch = Long.parseLong(since.substring(0, Math.max(separator, 0)));
+            sinceSequence = Long.parseLong(since.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+        synchronized (writeLock) {
+            final var current = version.get();
+            final var oldest = changes.isEmpty() ? current + 1 : changes.peekFirst().sequence();
+            if (sinceEpoch != epoch || sinceSequence > current || sinceSequence + 1 < oldest) {
+                return Optional.empty();
+            }
+            final var newer = new ArrayList<MockEmployeeChange>((int) (current - sinceSequence));
+            final var newestFirst = changes.descendingIterator();
+            while (newestFirst.hasNext()) {
+                final var change = newestFirst.next();
+                if (change.sequence() <= sinceSequence) {
+                    break;
+                }
+                newer.add(change);
+            }
+            Collections.reverse(newer);
+            return Optional.of(new MockEmployeeChanges(version(current), newer));
+        }
+    }
+
+    public void add(@NonNull MockEmployee mockEmployee) {
+        Objects.requireNonNull(mockEmployee.getId(), "id");
+        synchronized (writeLock) {
+            final var previous = employeesById.put(mockEmployee.getId(), mockEmployee);
+            if (previous != null) {
+                unlinkName(previous);
+            }
+            employeesInOrder.put(mockEmployee.getId(), mockEmployee);
+            if (mockEmployee.getName() != null) {
+                employeesByName
+                        .computeIfAbsent(fold(mockEmployee.getName()), ignored -> new LinkedHashMap<>())
+                        .put(mockEmployee.getId(), mockEmployee);
+            }
+            record(MockEmployeeChange.Type.CREATED, mockEmployee);
+        }
+    }
+
+    /*
+     * Removes the earliest added employee whose name matches ignoring case, as the former list scan did.
+     */
+    public Optional<MockEmployee> removeByName(@NonNull String name) {
+        synchronized (writeLock) {
+            final var key = fold(name);
+            final var entries = employeesByName.get(key);
+            if (entries == null) {
+                return Optional.empty();
+            }
+            final var first = entries.entrySet().iterator();
+            final var mockEmployee = first.next().getValue();
+            first.remove();
+            if (entries.isEmpty()) {
+                employeesByName.remove(key);
+            }
+            employeesById.remove(mockEmployee.getId());
+            employeesInOrder.remove(mockEmployee.getId());
+            record(MockEmployeeChange.Type.DELETED, mockEmployee);
+            return Optional.of(mockEmployee);
+        }
+    }
+
+    private void record(MockEmployeeChange.Type type, MockEmployee mockEmployee) {
+        final var change = new MockEmployeeChange(version.incrementAndGet(), type, mockEmployee);
+        changes.addLast(change);
+        if (changes.size() > maxRetainedChanges) {
+            changes.pollFirst();
+        }
+        changeListeners.forEach(listener -> listener.accept(change));
+    }
+
+    private void unlinkName(MockEmployee mockEmployee) {
+        if (mockEmployee.getName() != null) {
+            final var key = fold(mockEmployee.getName());
+            final var entries = employeesByName.get(key);
+            if (entries != null) {
+                entries.remove(mockEmployee.getId());
+                if (entries.isEmpty()) {
+                    employeesByName.remove(key);
+                }
+            }
+        }
+    }
+
+    private static String fold(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,105 @@
+package com.reliaquest.server.web;
+
+import com.reliaquest.server.model.MockEmployeeChange;
+import com.reliaquest.server.store.MockEmployeeStore;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+ * Pushes roster changes to Server-Sent Events subscribers as the store records them. A single sender thread writes
+ * every event, in the order the store recorded the changes, so each subscriber sees them in version order and a slow
+ * subscriber never holds up a write. The event id is the roster version the change produced.
+ *
+ * A subscriber that sends Last-Event-ID first gets the changes it missed from the change log, or a reset event when the
+ * log no longer covers them. Comments are sent as heartbeats so that dead connections are noticed on both ends.
+ */
+@Slf4j
+public class MockEmployeeEventBroadcaster implements AutoCloseable {
+
+    public static final String CHANGE_EVENT = "change";
+    public static final String RESET_EVENT = "reset";
+
+    private final MockEmployeeStore mockEmployeeStore;
+    private final Duration timeout;
+    private final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService sender = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final var thread = new Thread(runnable, "roster-events");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MockEmployeeEventBroadcaster(MockEmployeeStore mockEmployeeStore, Duration timeout, Duration heartbeat) {
+        this.mockEmployeeStore = mockEmployeeStore;
+        this.timeout = timeout;
+        mockEmployeeStore.addChangeListener(this::publish);
+        sender.scheduleAtFixedRate(this::heartbeat, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        final var emitter = new SseEmitter(timeout.toMillis());
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ignored -> subscribers.remove(emitter));
+        mockEmployeeStore.atomically(() -> {
+            if (lastEventId != null) {
+                final var missed = mockEmployeeStore.findChangesSince(lastEventId);
+                sender.execute(() -> missed.ifPresentOrElse(
+                        changes -> changes.changes().forEach(change -> sendChange(emitter, change)),
+                        () -> sendReset(emitter)));
+            }
+            subscribers.add(emitter);
+        });
+        log.debug("Roster event subscriber connected after {}, {} subscribed", lastEventId, subscribers.size());
+        return emitter;
+    }
+
+    @Override
+    public void close() {
+        sender.shutdownNow();
+        subscribers.forEach(SseEmitter::complete);
+    }
+
+    /*
+     * Called under the store's write lock: only the subscribers present now get this change, and it is queued behind
+     * any replay queued before it.
+     */
+    private void publish(MockEmployeeChange change) {
+        final var targets = List.copyOf(subscribers);
+        if (!targets.isEmpty()) {
+            sender.execute(() -> targets.forEach(emitter -> sendChange(emitter, change)));
+        }
+    }
+
+    private void sendChange(SseEmitter emitter, MockEmployeeChange change) {
+        send(emitter, SseEmitter.event()
+                .id(mockEmployeeStore.version(change.sequence()))
+                .name(CHANGE_EVENT)
+                .data(change, MediaType.APPLICATION_JSON));
+    }
+
+    private void sendReset(SseEmitter emitter) {
+        send(emitter, SseEmitter.event().name(RESET_EVENT).data(mockEmployeeStore.version()));
+    }
+
+    private void heartbeat() {
+        subscribers.forEach(emitter -> send(emitter, SseEmitter.event().comment("heartbeat")));
+    }
+
+    private void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping roster event subscriber: {}", e.getMessage());
+            subscribers.remove(emitter);
+            emitter.completeWithError(e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.reliaquest.server.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.regex.Pattern;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * Puts the caller's trace id in the logging MDC, so server logs can be matched with the api request that caused them.
+ */
+public class TraceIdFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    private static final String MDC_KEY = "traceId";
+    private static final Pattern VALID_TRACE_ID = Pattern.compile("[0-9A-Za-z-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        final var traceId = request.getHeader(TRACE_ID_HEADER);
+        if (traceId == null || !VALID_TRACE_ID.matcher(traceId).matches()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        MDC.put(MDC_KEY, traceId);
+        response.setHeader(TRACE_ID_HEADER, traceId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.reliaquest.server.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeeChange;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private final MockEmployeeStore store = new MockEmployeeStore(2);
+
+    @Test
+    void removeByName_whenNameIsShared_shouldRemoveEarliestAddedFirst() {
+        final var first = employee(1, "Tiger Nixon");
+        final var second = employee(2, "TIGER NIXON");
+        final var third = employee(3, "tiger nixon");
+        store.add(second);
+        store.add(first);
+        store.add(third);
+
+        assertEquals(second, store.removeByName("Tiger Nixon").orElseThrow());
+        assertEquals(first, store.removeByName("tIgEr nIxOn").orElseThrow());
+        assertEquals(third, store.removeByName("TIGER NIXON").orElseThrow());
+        assertTrue(store.removeByName("Tiger Nixon").isEmpty());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void add_whenIdExists_shouldReplaceItAndCountAsNewAddition() {
+        final var tiger = employee(1, "Tiger Nixon");
+        final var other = employee(2, "Tiger Nixon");
+        store.add(tiger);
+        store.add(other);
+
+        final var updated = tiger.toBuilder().salary(500).build();
+        store.add(updated);
+
+        assertEquals(2, store.size());
+        assertEquals(updated, store.findById(tiger.getId()).orElseThrow());
+        assertEquals(other, store.removeByName("Tiger Nixon").orElseThrow());
+        assertEquals(updated, store.removeByName("Tiger Nixon").orElseThrow());
+    }
+
+    @Test
+    void add_whenIdExistsUnderAnotherName_shouldUnlinkTheOldName() {
+        final var tiger = employee(1, "Tiger Nixon");
+        store.add(tiger);
+
+        store.add(tiger.toBuilder().name("Jane Doe").build());
+
+        assertTrue(store.removeByName("Tiger Nixon").isEmpty());
+        assertEquals(tiger.getId(), store.removeByName("Jane Doe").orElseThrow().getId());
+    }
+
+    @Test
+    void findPage_afterDeletedCursor_shouldContinueWithTheNextId() {
+        for (var i = 5; i >= 1; i--) {
+            store.add(employee(i, "Employee " + i));
+        }
+        final var firstPage = store.findPage(null, 3);
+        store.removeByName("Employee 3");
+
+        final var secondPage = store.findPage(firstPage.get(2).getId(), 3);
+
+        assertEquals(List.of(id(1), id(2), id(3)), ids(firstPage));
+        assertEquals(List.of(id(4), id(5)), ids(secondPage));
+        assertEquals(List.of(id(1), id(2), id(4), id(5)), ids(store.findAll()));
+    }
+
+    @Test
+    void findChangesSince_shouldAnswerWithinRetainedLogOnly() {
+        store.add(employee(1, "Tiger Nixon"));
+        store.add(employee(2, "Jane Doe"));
+        store.removeByName("Tiger Nixon");
+        final var epoch = store.version().substring(0, store.version().indexOf('-'));
+        final var current = store.version();
+
+        final var sinceOldestMinusOne = store.findChangesSince(epoch + "-1").orElseThrow();
+        assertEquals(current, sinceOldestMinusOne.version());
+        assertEquals(List.of(2L, 3L), sequences(sinceOldestMinusOne.changes()));
+        assertEquals(MockEmployeeChange.Type.DELETED, sinceOldestMinusOne.changes().get(1).type());
+
+        assertEquals(List.of(3L), sequences(store.findChangesSince(epoch + "-2").orElseThrow().changes()));
+
+        final var sinceCurrent = store.findChangesSince(current).orElseThrow();
+        assertEquals(current, sinceCurrent.version());
+        assertTrue(sinceCurrent.changes().isEmpty());
+
+        assertTrue(store.findChangesSince(epoch + "-0").isEmpty());
+        assertTrue(store.findChangesSince(epoch + "-4").isEmpty());
+        assertTrue(store.findChangesSince((Long.parseLong(epoch) + 1) + "-3").isEmpty());
+    }
+
+    @Test
+    void findChangesSince_whenMalformed_shouldBeEmpty() {
+        store.add(employee(1, "Tiger Nixon"));
+
+        for (final var since : List.of("", "-", "1", "abc-1", "1-abc", "1-2-3")) {
+            assertTrue(store.findChangesSince(since).isEmpty(), since);
+        }
+    }
+
+    private static MockEmployee employee(long id, String name) {
+        return MockEmployee.builder()
+                .id(id(id))
+                .name(name)
+                .salary(100)
+                .age(30)
+                .title("Engineer")
+                .email("employee" + id + "@company.com")
+                .build();
+    }
+
+    private static UUID id(long id) {
+        return new UUID(0, id);
+    }
+
+    private static List<UUID> ids(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getId).toList();
+    }
+
+    private static List<Long> sequences(List<MockEmployeeChange> changes) {
+        return changes.stream().map(MockEmployeeChange::sequence).toList();
+    }
+}